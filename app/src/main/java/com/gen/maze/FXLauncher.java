@@ -0,0 +1,11 @@
+package com.gen.maze;
+
+import com.gen.maze.engine.cli.Cli;
+import com.gen.maze.exec.Main;
+
+public class FXLauncher {
+    public static void main(String[] args) {
+        if (args.length > 0) Cli.main(args); // headless; never touches JavaFX
+        else Main.main(args);
+    }
+}
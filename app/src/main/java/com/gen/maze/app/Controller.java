@@ -0,0 +1,42 @@
+package com.gen.maze.app;
+
+import com.gen.maze.engine.GenerationContext;
+import javafx.scene.layout.Region;
+
+import java.util.concurrent.CancellationException;
+
+public class Controller {
+    private final Model model;
+    private final View view;
+    private GenerationContext context;
+
+    public Controller() {
+        model = new Model();
+        view = new View(model::forEachCell, model.rankProperty(), model.cellDimensionProperty());
+
+        view.algorithmInProcessProperty().bindBidirectional(model.algorithmInProcessProperty());
+        view.seedProperty().bind(model.seedProperty());
+        view.algorithmCancelProperty().addListener((o, v1, v2) -> {
+            if (context != null) context.cancel();
+        });
+        model.mazeProperty().addListener((o, v1, v2) -> view.showMaze(v2));
+        view.clickedButtonIdProperty().addListener((o, v1, v2) -> {
+            if (v2.isEmpty()) return;
+
+            var rank = (long) model.rankProperty().get();
+            var run = context = new GenerationContext(rank * rank);
+            var events = view.events(run);
+            Thread.ofPlatform().start(() -> {
+                try {
+                    model.runAlgorithm(v2, events);
+                } catch (CancellationException ignored) {
+                    // reset pressed; the view has already been cleared
+                }
+            });
+        });
+    }
+
+    public Region getView() {
+        return view.getRoot();
+    }
+}
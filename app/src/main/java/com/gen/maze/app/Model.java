@@ -0,0 +1,76 @@
+package com.gen.maze.app;
+
+import com.gen.maze.data.Tree;
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.Visitor;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleLongProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+public class Model {
+    private final BooleanProperty algorithmInProcess = new SimpleBooleanProperty(false);
+    private final IntegerProperty cellDimension = new SimpleIntegerProperty();
+    private final IntegerProperty rank = new SimpleIntegerProperty();
+    private final LongProperty seed = new SimpleLongProperty();
+    private final ObjectProperty<Maze> maze = new SimpleObjectProperty<>();
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    public void forEachCell(Consumer<Tree.Cell> applyOnNode) {
+        for (int y = 0; y < rank.get(); y++) {
+            for (int x = 0; x < rank.get(); x++) {
+                applyOnNode.accept(new Tree.Cell(y, x));
+            }
+        }
+    }
+
+    private void generate(Generator generator, Visitor visitor) {
+        var s = seeds.nextLong();
+        seed.set(s);
+
+        var m = new Maze(rank.get());
+        generator.generate(m, RandomSource.SPLITTABLE.create(s), visitor);
+        maze.set(m);
+    }
+
+    /**
+     * Generates with the algorithm registered in {@link Generators} under {@code algorithm}; an empty name does
+     * nothing.
+     */
+    public void runAlgorithm(String algorithm, Visitor visitor) {
+        if (algorithm.isEmpty()) return;
+
+        algorithmInProcess.set(true);
+        generate(Generators.byName(algorithm), visitor);
+    }
+
+    public IntegerProperty rankProperty() {
+        return rank;
+    }
+
+    public IntegerProperty cellDimensionProperty() {
+        return cellDimension;
+    }
+
+    public LongProperty seedProperty() {
+        return seed;
+    }
+
+    public ObjectProperty<Maze> mazeProperty() {
+        return maze;
+    }
+
+    public BooleanProperty algorithmInProcessProperty() {
+        return algorithmInProcess;
+    }
+}
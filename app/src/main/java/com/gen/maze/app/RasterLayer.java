@@ -0,0 +1,124 @@
+package com.gen.maze.app;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.render.Raster;
+import javafx.application.Platform;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Displays mazes of any rank as a single image. The visible viewport is rasterised on a background thread into a
+ * scratch buffer and copied into the displayed {@link PixelBuffer} on the FX thread; scrolling zooms about the
+ * cursor and dragging pans. Requests that arrive while a frame is being drawn are coalesced into the next one.
+ */
+public class RasterLayer {
+    private static final int WALL = 0xFF8A2BE2, FLOOR = 0xFFF5F5F5, BACKGROUND = 0;
+
+    private final int width, height;
+    private final IntBuffer scratch;
+    private final PixelBuffer<IntBuffer> pixels;
+    private final ImageView imageView;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        var t = new Thread(r, "maze-raster");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile Maze maze;
+    private volatile double originX, originY, scale = 1;
+    private double dragX, dragY;
+
+    public RasterLayer(int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        scratch = IntBuffer.allocate(width * height);
+        pixels = new PixelBuffer<>(width, height, ByteBuffer.allocateDirect(width * height * 4).order(ByteOrder.nativeOrder()).asIntBuffer(), PixelFormat.getIntArgbPreInstance());
+        imageView = new ImageView(new WritableImage(pixels));
+
+        imageView.setOnScroll(e -> zoom(e.getDeltaY() > 0 ? 1.25 : 0.8, e.getX(), e.getY()));
+        imageView.setOnMousePressed(e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        imageView.setOnMouseDragged(e -> {
+            originX -= (e.getX() - dragX) / scale;
+            originY -= (e.getY() - dragY) / scale;
+            dragX = e.getX();
+            dragY = e.getY();
+            requestRender();
+        });
+    }
+
+    public ImageView getNode() {
+        return imageView;
+    }
+
+    /**
+     * Shows {@code maze} scaled to fit. Safe to call from any thread.
+     */
+    public void show(Maze maze) {
+        scale = Math.min((double) width / Raster.blocks(maze.width()), (double) height / Raster.blocks(maze.height()));
+        originX = originY = 0;
+        this.maze = maze;
+
+        requestRender();
+    }
+
+    public void clear() {
+        maze = null;
+        requestRender();
+    }
+
+    private void zoom(double factor, double x, double y) {
+        var bx = originX + x / scale;
+        var by = originY + y / scale;
+
+        scale *= factor;
+        originX = bx - x / scale;
+        originY = by - y / scale;
+
+        requestRender();
+    }
+
+    private void requestRender() {
+        if (scheduled.compareAndSet(false, true)) worker.execute(this::render);
+    }
+
+    private void render() {
+        scheduled.set(false);
+
+        var m = maze;
+        if (m == null) {
+            for (int i = 0; i < width * height; i++) scratch.put(i, BACKGROUND);
+        } else {
+            Raster.draw(m, scratch, width, height, originX, originY, scale, WALL, FLOOR, BACKGROUND);
+        }
+
+        var copied = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            pixels.updateBuffer(b -> {
+                b.getBuffer().put(0, scratch, 0, width * height);
+                return null;
+            });
+            copied.countDown();
+        });
+
+        try {
+            copied.await(); // the next frame reuses the scratch buffer
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
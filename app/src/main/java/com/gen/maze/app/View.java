@@ -0,0 +1,320 @@
+package com.gen.maze.app;
+
+import com.gen.maze.data.EventRing;
+import com.gen.maze.data.Tree;
+import com.gen.maze.engine.GenerationContext;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.Visitor;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+public class View {
+    private static final int FRAME_BUDGET = 1 << 14; // events drawn per frame when not animating
+    private static final int MAX_STROKED_RANK = 40; // larger mazes are rasterised
+    private static final long CARVE = 4;
+
+    private final ChoiceBox<Integer> choiceBoxGridSize = new ChoiceBox<>(FXCollections.observableList(List.of(20, 40, 200, 1000, 2000)));
+    private final Button btnAldousBroderAlgorithm = new Button("\uD83C\uDF00 Aldous-Broder");
+    private final Button btnBinaryTreeAlgorithm = new Button("\uD83C\uDF33 BinaryTree");
+    private final Button btnKruskalAlgorithm = new Button("\uD83C\uDF3F Kruskal's");
+    private final Button btnBacktrackingAlgorithm = new Button("➰ Backtracking");
+    private final Button btnWilsonAlgorithm = new Button("\uD83C\uDF0A Wilson's");
+    private final Button btnGrowingTreeAlgorithm = new Button("\uD83C\uDF31 Growing tree");
+    private final CheckBox checkBoxAnimation = new CheckBox("On/Off");
+    private final Button btnResetMazeDisplay = new Button("Reset");
+    private final Label labelSeed = new Label("-");
+    private final ProgressBar progressBar = new ProgressBar(0);
+
+    private final AnchorPane paneMazeDisplay = new AnchorPane();
+    private final RasterLayer rasterLayer = new RasterLayer(800, 800);
+    private final VBox vBoxUserControls = new VBox(15);
+    private final VBox vBoxAlgorithms = new VBox(8);
+    private final GridPane root = new GridPane();
+
+    private final StringProperty clickedButtonId = new SimpleStringProperty();
+    private final IntegerProperty cellDimension = new SimpleIntegerProperty();
+    private final BooleanProperty algorithmInProcess = new SimpleBooleanProperty();
+    private final BooleanProperty algorithmCancel = new SimpleBooleanProperty(false);
+    private final LongProperty seed = new SimpleLongProperty();
+
+    private final EventRing events = new EventRing(1 << 16);
+    private final LongConsumer drawEvent = this::drawEvent;
+    private final AnimationTimer renderer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            render();
+        }
+    };
+
+    private Rectangle blob;
+    private Canvas canvas;
+    private volatile GenerationContext running;
+
+    public View(Consumer<Consumer<Tree.Cell>> drawingAlgorithm, IntegerProperty gridSizeProperty, IntegerProperty cellDimensionProperty) {
+        glueBindings(gridSizeProperty, cellDimensionProperty);
+
+        setOnChoiceBoxGridSizeChanged(drawingAlgorithm);
+        setOnResetButtonClicked();
+        setOnAlgorithmsButtonClicked(Map.of(btnAldousBroderAlgorithm, "aldous-broder", btnBacktrackingAlgorithm, "backtracking", btnBinaryTreeAlgorithm, "binary-tree", btnKruskalAlgorithm, "kruskal", btnWilsonAlgorithm, "wilson", btnGrowingTreeAlgorithm, "growing-tree"));
+
+        addAlgorithmVBoxChildren();
+        addVBoxUserControlsChildren();
+
+        root.addColumn(1, vBoxUserControls);
+        root.addColumn(0, paneMazeDisplay);
+        choiceBoxGridSize.setValue(20);
+
+        renderer.start();
+    }
+
+    private void glueBindings(IntegerProperty gridSizeProperty, IntegerProperty cellDimensionProperty) {
+        gridSizeProperty.bind(choiceBoxGridSize.valueProperty());
+        cellDimensionProperty.bind(cellDimension);
+
+        seed.addListener((o, v1, v2) -> Platform.runLater(() -> labelSeed.setText(v2.toString())));
+
+        btnResetMazeDisplay.disableProperty().bind(algorithmInProcess.not());
+
+        btnAldousBroderAlgorithm.disableProperty().bind(algorithmInProcess);
+        btnBacktrackingAlgorithm.disableProperty().bind(algorithmInProcess);
+        btnBinaryTreeAlgorithm.disableProperty().bind(algorithmInProcess);
+        btnKruskalAlgorithm.disableProperty().bind(algorithmInProcess);
+        btnWilsonAlgorithm.disableProperty().bind(algorithmInProcess);
+        btnGrowingTreeAlgorithm.disableProperty().bind(algorithmInProcess);
+        choiceBoxGridSize.disableProperty().bind(algorithmInProcess);
+        checkBoxAnimation.disableProperty().bind(algorithmInProcess.or(choiceBoxGridSize.valueProperty().isNotEqualTo(20)));
+    }
+
+    /**
+     * Buttons carry the {@link com.gen.maze.engine.Generators} name of their algorithm as their id.
+     */
+    private void setOnAlgorithmsButtonClicked(Map<Button, String> algorithmBtns) {
+        algorithmBtns.forEach(Button::setId);
+
+        algorithmBtns.keySet().forEach(b -> b.setOnMouseClicked((e) -> {
+            var button = (Button) e.getSource();
+            clickedButtonId.set(button.getId());
+        }));
+    }
+
+    private void addVBoxUserControlsChildren() {
+        vBoxUserControls.getChildren().addAll(new VBox(3, new Label("[Choose grid size \uD83D\uDCAA]"), choiceBoxGridSize), new VBox(3, new Label("[Animate algs \uD83D\uDD27]"), checkBoxAnimation), new VBox(3, new Label("[Reset maze \uD83D\uDD19]"), btnResetMazeDisplay), new VBox(3, new Label("[Seed \uD83C\uDFB2]"), labelSeed), new VBox(3, new Label("[Progress \u23F3]"), progressBar), vBoxAlgorithms);
+    }
+
+    private void addAlgorithmVBoxChildren() {
+        vBoxAlgorithms.getChildren().addAll(new Label("[Choose maze algs \uD83D\uDE80]"), btnAldousBroderAlgorithm, btnBacktrackingAlgorithm, btnBinaryTreeAlgorithm, btnKruskalAlgorithm, btnWilsonAlgorithm, btnGrowingTreeAlgorithm);
+    }
+
+    private void setOnResetButtonClicked() {
+        btnResetMazeDisplay.setOnMouseClicked((e) -> {
+            paneMazeDisplay.getChildren().removeAll(blob);
+            algorithmCancel.set(algorithmCancel.not().get());
+            events.clear();
+            running = null;
+            progressBar.setProgress(0);
+            algorithmInProcess.set(false);
+            clickedButtonId.set("");
+            if (isRasterised()) rasterLayer.clear();
+            else attachNewCanvas();
+            blob = null;
+        });
+    }
+
+    private void attachNewCanvas() {
+        paneMazeDisplay.getChildren().remove(canvas);
+
+        canvas = new Canvas(800, 800);
+        canvas.getGraphicsContext2D().setStroke(Color.WHITESMOKE);
+        canvas.getGraphicsContext2D().setLineWidth(3);
+
+        paneMazeDisplay.getChildren().add(canvas);
+    }
+
+    private void setOnChoiceBoxGridSizeChanged(Consumer<Consumer<Tree.Cell>> drawingAlgorithm) {
+        choiceBoxGridSize.valueProperty().addListener((o, v1, v2) -> {
+            cellDimension.set(f(v2));
+            paneMazeDisplay.getChildren().clear();
+
+            if (isRasterised()) {
+                rasterLayer.clear();
+                paneMazeDisplay.getChildren().add(rasterLayer.getNode());
+                return;
+            }
+
+            drawingAlgorithm.accept(this::drawRectangle);
+            attachNewCanvas();
+        });
+    }
+
+    private void drawRectangle(Tree.Cell cell) {
+        var width = cellDimension.get();
+        var height = width;
+
+        var rect = new Rectangle(width * cell.X(), height * cell.Y(), width, width);
+        rect.getStyleClass().add("rectangle");
+
+        paneMazeDisplay.getChildren().add(rect);
+    }
+
+    private int f(int dim) {
+        return switch (dim) {
+            case 20 -> 40;
+            case 40 -> 20;
+
+            default -> -1;
+        };
+    }
+
+    /**
+     * Generator callbacks for a run under {@code context}, safe to call from the algorithm thread. They only
+     * enqueue events; {@link #render} draws them on the FX thread and shows the context's progress. Rasterised
+     * ranks take no drawing callbacks and are drawn by {@link #showMaze} once complete.
+     */
+    public Visitor events(GenerationContext context) {
+        running = context;
+        if (isRasterised()) return context;
+
+        return new Visitor() {
+            @Override
+            public void onVisit(int cell) {
+                context.onVisit(cell);
+                put(context, (long) cell << 3);
+            }
+
+            @Override
+            public void onCarve(int cell, int dir) {
+                context.onCarve(cell, dir);
+                put(context, (long) cell << 3 | CARVE | dir);
+            }
+
+            @Override
+            public void onStep() {
+                context.onStep();
+            }
+        };
+    }
+
+    /**
+     * Waits for room while the FX thread catches up, which is most of the run when animating.
+     */
+    private void put(GenerationContext context, long event) {
+        while (true) {
+            context.checkCancelled();
+            if (events.offer(event)) return;
+
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    public void showMaze(Maze maze) {
+        if (maze.width() > MAX_STROKED_RANK) rasterLayer.show(maze);
+    }
+
+    private void render() {
+        var context = running;
+        if (context != null) progressBar.setProgress(context.progress());
+
+        if (isRasterised()) return;
+
+        var graphics = graphics();
+
+        graphics.beginPath();
+        events.drain(drawEvent, isAnimated() ? 1 : FRAME_BUDGET);
+        graphics.stroke();
+    }
+
+    private void drawEvent(long event) {
+        var rank = choiceBoxGridSize.getValue();
+        var width = cellDimension.get();
+        var height = width;
+
+        var cell = (int) (event >>> 3);
+        var x = cell % rank * width;
+        var y = cell / rank * height;
+
+        if ((event & CARVE) == 0) {
+            if (isAnimated()) moveBlob(x, y);
+            return;
+        }
+
+        var graphics = graphics();
+        switch ((int) event & 3) {
+            case Maze.UP -> segment(graphics, x, y, x + width, y);
+            case Maze.DOWN -> segment(graphics, x, y + height, x + width, y + height);
+            case Maze.RIGHT -> segment(graphics, x + width, y, x + width, y + height);
+            case Maze.LEFT -> segment(graphics, x, y, x, y + height);
+        }
+    }
+
+    private static void segment(GraphicsContext graphics, double x1, double y1, double x2, double y2) {
+        graphics.moveTo(x1, y1);
+        graphics.lineTo(x2, y2);
+    }
+
+    private void moveBlob(int x, int y) {
+        var width = cellDimension.get();
+        var height = width;
+
+        if (blob == null) {
+            blob = new Rectangle(width - 10, height - 10);
+            blob.setStyle("-fx-stroke: #00ff38; -fx-fill: #863ae8");
+            paneMazeDisplay.getChildren().add(blob);
+        }
+        blob.setLayoutY(y + 5);
+        blob.setLayoutX(x + 5);
+    }
+
+    private boolean isRasterised() {
+        return choiceBoxGridSize.getValue() > MAX_STROKED_RANK;
+    }
+
+    private boolean isAnimated() {
+        return checkBoxAnimation.isSelected() && choiceBoxGridSize.getValue() == 20;
+    }
+
+
+    public BooleanProperty algorithmCancelProperty() {
+        return algorithmCancel;
+    }
+
+    public LongProperty seedProperty() {
+        return seed;
+    }
+
+    public StringProperty clickedButtonIdProperty() {
+        return clickedButtonId;
+    }
+
+    public BooleanProperty algorithmInProcessProperty() {
+        return algorithmInProcess;
+    }
+
+    private GraphicsContext graphics() {
+        return canvas.getGraphicsContext2D();
+    }
+
+    public Region getRoot() {
+        return root;
+    }
+}
@@ -0,0 +1,66 @@
+package com.gen.maze.data;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongConsumer;
+
+/**
+ * Lock-free single-producer, single-consumer ring of {@code long} events. {@link #offer} never blocks, so the
+ * producer decides how to wait for room and when to give up.
+ */
+public final class EventRing {
+    private static final VarHandle HEAD, TAIL;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(EventRing.class, "head", long.class);
+            TAIL = lookup.findVarHandle(EventRing.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long[] buffer;
+    private final int mask;
+    private long head, tail; // accessed through HEAD and TAIL
+
+    public EventRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+
+        buffer = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Appends {@code event} unless the ring is full.
+     */
+    public boolean offer(long event) {
+        long t = (long) TAIL.getOpaque(this);
+        if (t - (long) HEAD.getAcquire(this) == buffer.length) return false;
+
+        buffer[(int) t & mask] = event;
+        TAIL.setRelease(this, t + 1);
+        return true;
+    }
+
+    /**
+     * Hands at most {@code max} events to {@code sink} in order and returns how many there were.
+     */
+    public int drain(LongConsumer sink, int max) {
+        long h = (long) HEAD.getOpaque(this);
+        int n = (int) Math.min((long) TAIL.getAcquire(this) - h, max);
+
+        for (int i = 0; i < n; i++) sink.accept(buffer[(int) (h + i) & mask]);
+
+        HEAD.setRelease(this, h + n);
+        return n;
+    }
+
+    /**
+     * Drops every pending event. Consumer side only.
+     */
+    public void clear() {
+        HEAD.setRelease(this, (long) TAIL.getAcquire(this));
+    }
+}
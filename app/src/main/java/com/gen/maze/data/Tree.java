@@ -0,0 +1,35 @@
+package com.gen.maze.data;
+
+import java.util.Objects;
+
+public class Tree {
+    public static final class Cell {
+        private final int y, x;
+
+        public Cell(int y, int x) {
+            this.y = y;
+            this.x = x;
+        }
+
+        public int Y() {
+            return y;
+        }
+
+        public int X() {
+            return x;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Cell cell = (Cell) o;
+            return y == cell.y && x == cell.x;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(y, x);
+        }
+    }
+}
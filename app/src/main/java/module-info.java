@@ -2,10 +2,10 @@ module com.gen.maze {
     requires javafx.controls;
     requires javafx.graphics;
     requires java.base;
+    requires com.gen.maze.engine;
 
     exports com.gen.maze;
     exports com.gen.maze.app;
     exports com.gen.maze.data;
     exports com.gen.maze.exec;
-    exports com.gen.maze.data.misc;
 }
\ No newline at end of file
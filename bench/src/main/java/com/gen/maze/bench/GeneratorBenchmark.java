@@ -0,0 +1,82 @@
+package com.gen.maze.bench;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.OffHeap;
+import com.gen.maze.engine.data.Storage;
+import com.gen.maze.engine.metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.foreign.Arena;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Run with {@code java -jar bench/target/benchmarks.jar -prof gc} for allocation rates.
+ * The {@code cells} secondary result is generated cells per second; {@code visitor=metrics} shows the cost of
+ * counting against {@code none}, and {@code storage=off-heap} builds the maze and all scratch state in an arena.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview") // storage=off-heap uses the preview foreign memory API
+public class GeneratorBenchmark {
+    @Param({"aldous-broder", "backtracking", "binary-tree", "kruskal", "wilson", "aldous-broder-wilson", "eller",
+            "sidewinder", "growing-tree", "parallel-backtracking", "parallel-binary-tree"})
+    private String algorithm;
+
+    @Param({"20", "256", "1024", "4096"})
+    private int rank;
+
+    @Param({"none", "noop", "metrics"})
+    private String visitor;
+
+    @Param({"SPLITTABLE"})
+    private RandomSource source;
+
+    @Param({"heap", "off-heap"})
+    private String storage;
+
+    private Generator generator;
+    private Visitor callbacks;
+    private RandomGenerator random;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Cells {
+        public long cells;
+    }
+
+    @Setup
+    public void setup() {
+        generator = Generators.byName(algorithm, source::create);
+        callbacks = switch (visitor) {
+            case "noop" -> new Visitor() {
+            };
+            case "metrics" -> new Metrics();
+            default -> null;
+        };
+        random = source.create(42);
+    }
+
+    @Benchmark
+    public Maze generate(Cells counter) {
+        if (storage.equals("heap")) return generate(new Maze(rank), counter);
+
+        try (var arena = Arena.ofShared()) { // shared, so the parallel generators can carve from pool threads
+            return generate(new Maze(rank, rank, OffHeap.storage(arena)), counter);
+        }
+    }
+
+    private Maze generate(Maze maze, Cells counter) {
+        generator.generate(maze, random, callbacks);
+
+        counter.cells += maze.size();
+        return maze;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gen.maze.bench;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.solve.Solution;
+import com.gen.maze.engine.solve.Solver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corner-to-corner solves on one pre-generated maze per trial; compare against {@link GeneratorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"backtracking", "kruskal", "wilson"})
+    private String algorithm;
+
+    @Param({"256", "1024", "4096"})
+    private int rank;
+
+    @Param({"bfs", "a-star", "bidirectional", "dead-end"})
+    private String method;
+
+    private final Solver solver = new Solver();
+    private Maze maze;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        maze = new MazeSpec(algorithm, rank, rank, 42, RandomSource.SPLITTABLE).generate();
+    }
+
+    @Benchmark
+    public Solution solve() {
+        int to = maze.size() - 1;
+        return switch (method) {
+            case "bfs" -> solver.bfs(maze, 0, to);
+            case "a-star" -> solver.aStar(maze, 0, to);
+            case "bidirectional" -> solver.bidirectional(maze, 0, to);
+            default -> solver.deadEndFill(maze, 0, to);
+        };
+    }
+}
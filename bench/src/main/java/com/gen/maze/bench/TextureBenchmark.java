@@ -0,0 +1,38 @@
+package com.gen.maze.bench;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.metrics.Texture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Texture analysis of one pre-generated maze per trial; compare against {@link GeneratorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextureBenchmark {
+    @Param({"backtracking", "kruskal", "binary-tree"})
+    private String algorithm;
+
+    @Param({"256", "1024", "4096"})
+    private int rank;
+
+    private Maze maze;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        maze = new MazeSpec(algorithm, rank, rank, 42, RandomSource.SPLITTABLE).generate();
+    }
+
+    @Benchmark
+    public Texture texture() {
+        return Texture.of(maze);
+    }
+}
@@ -0,0 +1,95 @@
+package com.gen.maze.engine;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cancellation and progress for one generation run, passed to the generator as its visitor. Every
+ * {@link #CHECK_INTERVAL} steps the run checks whether it was {@link #cancel cancelled} and, if so, unwinds with a
+ * {@link CancellationException}; the maze is left partially carved. Progress is passages carved out of the
+ * {@code cells - 1} a perfect maze has. Callbacks are forwarded to an optional delegate.
+ */
+public final class GenerationContext implements Visitor {
+    public static final int CHECK_INTERVAL = 1 << 10;
+
+    private final long cells;
+    private final Visitor delegate;
+    private final LongAdder carved = new LongAdder();
+    private volatile boolean cancelled;
+    private int steps; // racy under parallel generators, which only delays a check
+
+    public GenerationContext(long cells) {
+        this(cells, null);
+    }
+
+    public GenerationContext(long cells, Visitor delegate) {
+        this.cells = cells;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Asks the run to stop at its next check. Safe to call from any thread, before or during the run.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void checkCancelled() {
+        if (cancelled) throw new CancellationException();
+    }
+
+    public long carved() {
+        return carved.sum();
+    }
+
+    /**
+     * Fraction of the maze carved so far, from 0 to 1.
+     */
+    public double progress() {
+        return cells <= 1 ? 1 : Math.min(1, (double) carved.sum() / (cells - 1));
+    }
+
+    @Override
+    public void onStep() {
+        if (++steps >= CHECK_INTERVAL) {
+            steps = 0;
+            checkCancelled();
+        }
+        if (delegate != null) delegate.onStep();
+    }
+
+    @Override
+    public void onCarve(int cell, int dir) {
+        carved.increment();
+        if (delegate != null) delegate.onCarve(cell, dir);
+    }
+
+    @Override
+    public void onVisit(int cell) {
+        if (delegate != null) delegate.onVisit(cell);
+    }
+
+    @Override
+    public void onDepth(int depth) {
+        if (delegate != null) delegate.onDepth(depth);
+    }
+
+    @Override
+    public void onFinds(int count) {
+        if (delegate != null) delegate.onFinds(count);
+    }
+
+    @Override
+    public void onUnion(int depthA, int depthB) {
+        if (delegate != null) delegate.onUnion(depthA, depthB);
+    }
+
+    @Override
+    public boolean wantsUnionDepth() {
+        return delegate != null && delegate.wantsUnionDepth();
+    }
+}
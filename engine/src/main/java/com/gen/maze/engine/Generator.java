@@ -0,0 +1,16 @@
+package com.gen.maze.engine;
+
+import java.util.random.RandomGenerator;
+
+@FunctionalInterface
+public interface Generator {
+    /**
+     * Carves a perfect maze into {@code grid}, which must have all of its walls in place, over every enabled cell.
+     * Visitor callbacks receive cell ids of {@code grid}; a {@code null} visitor skips them altogether.
+     */
+    void generate(Topology grid, RandomGenerator random, Visitor visitor);
+
+    default void generate(Maze maze, RandomGenerator random, Visitor visitor) {
+        generate(new Grid(maze), random, visitor);
+    }
+}
@@ -0,0 +1,97 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.gen.AldousBroder;
+import com.gen.maze.engine.gen.AldousBroderWilson;
+import com.gen.maze.engine.gen.Backtracking;
+import com.gen.maze.engine.gen.BinaryTree;
+import com.gen.maze.engine.gen.Eller;
+import com.gen.maze.engine.gen.GrowingTree;
+import com.gen.maze.engine.gen.Kruskal;
+import com.gen.maze.engine.gen.ParallelTiles;
+import com.gen.maze.engine.gen.Sidewinder;
+import com.gen.maze.engine.gen.Wilson;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Registry of generators by name. The built-in ones are registered up front; anything registered later is
+ * resolved by {@link #byName} everywhere names are accepted, the UI and the command line included.
+ */
+public final class Generators {
+    private static final String PARALLEL = "parallel-";
+    private static final Map<String, Function<String, ? extends Generator>> FACTORIES = new LinkedHashMap<>();
+
+    static {
+        register("aldous-broder", AldousBroder::new);
+        register("backtracking", Backtracking::new);
+        register("binary-tree", BinaryTree::new);
+        register("kruskal", Kruskal::new);
+        register("wilson", Wilson::new);
+        register("aldous-broder-wilson", AldousBroderWilson::new);
+        register("eller", Eller::new);
+        register("sidewinder", Sidewinder::new);
+        registerConfigurable("growing-tree", options -> options == null
+                ? new GrowingTree() : new GrowingTree(GrowingTree.Policy.parse(options)));
+    }
+
+    private Generators() {
+    }
+
+    /**
+     * Registers {@code factory} under {@code name}, replacing any generator registered there before.
+     */
+    public static void register(String name, Supplier<? extends Generator> factory) {
+        registerConfigurable(name, options -> {
+            if (options != null) throw new IllegalArgumentException(name + " takes no options: " + options);
+            return factory.get();
+        });
+    }
+
+    /**
+     * Registers a generator that takes options: {@code name:options} passes the text after the colon to
+     * {@code factory}, and the bare name passes {@code null}.
+     */
+    public static synchronized void registerConfigurable(String name, Function<String, ? extends Generator> factory) {
+        if (name.isEmpty() || name.indexOf(':') >= 0 || name.startsWith(PARALLEL))
+            throw new IllegalArgumentException("Reserved algorithm name: " + name);
+        FACTORIES.put(name, factory);
+    }
+
+    /**
+     * Registered names in registration order, without options or the {@code parallel-} prefix.
+     */
+    public static synchronized List<String> names() {
+        return List.copyOf(FACTORIES.keySet());
+    }
+
+    /**
+     * Resolves an algorithm name. A {@code parallel-} prefix runs the named algorithm on 256x256 tiles in parallel,
+     * each with a {@link SplittableRandom} seeded from the maze's random generator.
+     */
+    public static Generator byName(String name) {
+        return byName(name, SplittableRandom::new);
+    }
+
+    /**
+     * Same as {@link #byName(String)}, but {@code parallel-} tiles get their random generators from
+     * {@code tileRandom}, such as {@code spec.source()::create}, so they draw from the same source as the maze.
+     */
+    public static synchronized Generator byName(String name, LongFunction<? extends RandomGenerator> tileRandom) {
+        if (name.startsWith(PARALLEL))
+            return new ParallelTiles(byName(name.substring(PARALLEL.length()), tileRandom), 256,
+                    ForkJoinPool.commonPool(), tileRandom);
+
+        int colon = name.indexOf(':');
+        var factory = FACTORIES.get(colon < 0 ? name : name.substring(0, colon));
+        if (factory == null) throw new IllegalArgumentException("Unknown algorithm: " + name);
+        return factory.apply(colon < 0 ? null : name.substring(colon + 1));
+    }
+}
@@ -0,0 +1,107 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Storage;
+
+/**
+ * Square-grid topology over a {@link Maze}, or over a rectangular region of one. Cells are numbered
+ * {@code y * width + x} within the grid and neighbours are computed from that index, so creating a grid
+ * costs nothing regardless of its size.
+ */
+public final class Grid implements Topology {
+    private final Maze maze;
+    private final int x0, y0, width, height, size;
+    private final boolean atomic;
+    private final Storage storage;
+
+    public Grid(Maze maze) {
+        this(maze, 0, 0, maze.width(), maze.height(), false, maze.words().storage());
+    }
+
+    private Grid(Maze maze, int x0, int y0, int width, int height, boolean atomic, Storage storage) {
+        this.maze = maze;
+        this.x0 = x0;
+        this.y0 = y0;
+        this.width = width;
+        this.height = height;
+        this.size = width * height;
+        this.atomic = atomic;
+        this.storage = storage;
+    }
+
+    /**
+     * A grid over the given rectangle of this one. Cells outside the rectangle are not neighbours.
+     */
+    public Grid region(int x, int y, int width, int height) {
+        if (x < 0 || y < 0 || width <= 0 || height <= 0 || x + width > this.width || y + height > this.height)
+            throw new IllegalArgumentException("Region out of bounds: " + x + "," + y + " " + width + "x" + height);
+
+        return new Grid(maze, x0 + x, y0 + y, width, height, atomic, storage);
+    }
+
+    /**
+     * A view of this grid whose carving is safe while other threads carve neighbouring regions.
+     */
+    public Grid atomic() {
+        return new Grid(maze, x0, y0, width, height, true, storage);
+    }
+
+    /**
+     * A view of this grid whose generators allocate scratch state from {@code storage} instead of the maze's.
+     */
+    public Grid scratch(Storage storage) {
+        return new Grid(maze, x0, y0, width, height, atomic, storage);
+    }
+
+    public Maze maze() {
+        return maze;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int degree() {
+        return 4;
+    }
+
+    public Storage storage() {
+        return storage;
+    }
+
+    public int neighbour(int cell, int dir) {
+        return switch (dir) {
+            case Maze.UP -> cell >= width ? cell - width : -1;
+            case Maze.DOWN -> cell < size - width ? cell + width : -1;
+            case Maze.LEFT -> cell % width != 0 ? cell - 1 : -1;
+            case Maze.RIGHT -> cell % width != width - 1 ? cell + 1 : -1;
+            default -> throw new IllegalArgumentException("Unknown direction: " + dir);
+        };
+    }
+
+    public boolean isOpen(int cell, int dir) {
+        return maze.isOpen(toMaze(cell), dir);
+    }
+
+    public void carve(int cell, int dir) {
+        if (atomic) maze.carveAtomic(toMaze(cell), dir);
+        else maze.carve(toMaze(cell), dir);
+    }
+
+    /**
+     * Maps a cell of this grid to its index in the underlying maze.
+     */
+    public int toMaze(int cell) {
+        int stride = maze.width();
+        if (width == stride) return y0 * stride + cell;
+
+        return (y0 + cell / width) * stride + x0 + cell % width;
+    }
+}
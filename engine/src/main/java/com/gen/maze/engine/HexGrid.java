@@ -0,0 +1,105 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Storage;
+import com.gen.maze.engine.data.Words;
+
+/**
+ * Pointy-top hexagons in offset rows, odd rows shifted half a cell right. Each cell stores its three forward
+ * passages, {@link #SE}, {@link #E} and {@link #SW}, in four bits, sixteen cells per word; the backward
+ * directions are read from the neighbour, as {@link Maze} does for up and left.
+ */
+public final class HexGrid implements Topology {
+    public static final int NW = 0, SE = 1, W = 2, E = 3, NE = 4, SW = 5;
+
+    private final int width, height, size;
+    private final Words words;
+
+    public HexGrid(int width, int height) {
+        this(width, height, Words.onHeap(wordCount(width, height)));
+    }
+
+    public HexGrid(int width, int height, Words words) {
+        if (words.length() < wordCount(width, height))
+            throw new IllegalArgumentException("Need " + wordCount(width, height) + " words, got " + words.length());
+
+        this.width = width;
+        this.height = height;
+        this.size = width * height;
+        this.words = words;
+    }
+
+    public static int wordCount(int width, int height) {
+        if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Unsupported grid size: " + width + "x" + height);
+
+        return (int) (((long) width * height + 15) >>> 4);
+    }
+
+    public Words words() {
+        return words;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int degree() {
+        return 6;
+    }
+
+    @Override
+    public Storage storage() {
+        return words.storage();
+    }
+
+    @Override
+    public int neighbour(int cell, int dir) {
+        int x = cell % width, y = cell / width;
+        int shift = y & 1; // odd rows reach one column further right diagonally
+        int nx, ny;
+        switch (dir) {
+            case NW -> { nx = x - 1 + shift; ny = y - 1; }
+            case SE -> { nx = x + shift; ny = y + 1; }
+            case W -> { nx = x - 1; ny = y; }
+            case E -> { nx = x + 1; ny = y; }
+            case NE -> { nx = x + shift; ny = y - 1; }
+            case SW -> { nx = x - 1 + shift; ny = y + 1; }
+            default -> throw new IllegalArgumentException("Unknown direction: " + dir);
+        }
+        return nx >= 0 && nx < width && ny >= 0 && ny < height ? ny * width + nx : -1;
+    }
+
+    @Override
+    public boolean isOpen(int cell, int dir) {
+        if ((dir & 1) != 0) return bit(cell, dir >>> 1);
+
+        int n = neighbour(cell, dir);
+        return n >= 0 && bit(n, dir >>> 1);
+    }
+
+    @Override
+    public void carve(int cell, int dir) {
+        if ((dir & 1) != 0) set(cell, dir >>> 1);
+        else set(neighbour(cell, dir), dir >>> 1);
+    }
+
+    private boolean bit(int cell, int offset) {
+        return (words.get(cell >>> 4) & 1L << ((cell & 15) << 2 | offset)) != 0;
+    }
+
+    private void set(int cell, int offset) {
+        words.or(cell >>> 4, 1L << ((cell & 15) << 2 | offset));
+    }
+}
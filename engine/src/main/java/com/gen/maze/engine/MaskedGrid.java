@@ -0,0 +1,120 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Bits;
+import com.gen.maze.engine.data.Storage;
+
+/**
+ * A square grid over a {@link Maze} where only the cells set in a bitmap take part, for levels that are not
+ * rectangular. Disabled cells keep all their walls. The enabled cells must be connected.
+ */
+public final class MaskedGrid implements Topology {
+    private final Maze maze;
+    private final Grid grid;
+    private final long[] enabled;
+    private final int cells, first;
+
+    /**
+     * @param enabled one bit per maze cell, as built with {@link Bits}
+     */
+    public MaskedGrid(Maze maze, long[] enabled) {
+        if (enabled.length < (maze.size() + 63) >>> 6)
+            throw new IllegalArgumentException("Mask too short for " + maze.size() + " cells");
+
+        this.maze = maze;
+        this.grid = new Grid(maze);
+        this.enabled = enabled;
+
+        int count = 0, lowest = -1;
+        for (int c = 0; c < maze.size(); c++) {
+            if (!Bits.get(enabled, c)) continue;
+
+            if (lowest < 0) lowest = c;
+            count++;
+        }
+        if (count == 0) throw new IllegalArgumentException("Mask enables no cells");
+
+        this.cells = count;
+        this.first = lowest;
+        if (reachable() != count) throw new IllegalArgumentException("Mask is not connected");
+    }
+
+    public Maze maze() {
+        return maze;
+    }
+
+    @Override
+    public int width() {
+        return maze.width();
+    }
+
+    @Override
+    public int height() {
+        return maze.height();
+    }
+
+    @Override
+    public int size() {
+        return maze.size();
+    }
+
+    @Override
+    public int degree() {
+        return 4;
+    }
+
+    @Override
+    public Storage storage() {
+        return maze.words().storage();
+    }
+
+    @Override
+    public int neighbour(int cell, int dir) {
+        int n = grid.neighbour(cell, dir);
+        return n >= 0 && Bits.get(enabled, n) ? n : -1;
+    }
+
+    @Override
+    public boolean isOpen(int cell, int dir) {
+        return maze.isOpen(cell, dir);
+    }
+
+    @Override
+    public void carve(int cell, int dir) {
+        maze.carve(cell, dir);
+    }
+
+    @Override
+    public boolean contains(int cell) {
+        return Bits.get(enabled, cell);
+    }
+
+    @Override
+    public int cells() {
+        return cells;
+    }
+
+    @Override
+    public int first() {
+        return first;
+    }
+
+    private int reachable() {
+        var seen = Bits.create(maze.size());
+        var queue = new int[cells];
+        int head = 0, tail = 0;
+
+        queue[tail++] = first;
+        Bits.set(seen, first);
+        while (head != tail) {
+            int c = queue[head++];
+            for (int d = 0; d < 4; d++) {
+                int n = neighbour(c, d);
+                if (n >= 0 && !Bits.get(seen, n)) {
+                    Bits.set(seen, n);
+                    queue[tail++] = n;
+                }
+            }
+        }
+        return tail;
+    }
+}
@@ -0,0 +1,169 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Storage;
+import com.gen.maze.engine.data.Words;
+
+/**
+ * A perfect-maze grid stored as two passage bits per cell: {@link #RIGHT} at bit {@code 2 * cell} and
+ * {@link #DOWN} at bit {@code 2 * cell + 1}. {@link #UP} and {@link #LEFT} are read from the neighbouring cell,
+ * so a 4096x4096 maze takes 4 MB. Cells are numbered {@code y * width + x}.
+ */
+public final class Maze {
+    public static final int UP = 0, DOWN = 1, LEFT = 2, RIGHT = 3;
+
+    /**
+     * The {@link #RIGHT} bits of all 32 cells in a word; their {@link #DOWN} bits are this shifted left by one.
+     */
+    public static final long RIGHT_BITS = 0x5555555555555555L;
+
+    private final int width, height;
+    private final Words words;
+    private boolean wraps;
+
+    public Maze(int width, int height) {
+        this(width, height, Words.onHeap(wordCount(width, height)));
+    }
+
+    public Maze(int rank) {
+        this(rank, rank);
+    }
+
+    /**
+     * An empty maze in {@code storage}, e.g. {@link com.gen.maze.engine.data.OffHeap#storage} for mazes too
+     * large for the heap.
+     */
+    public Maze(int width, int height, Storage storage) {
+        this(width, height, storage.words(wordCount(width, height)));
+    }
+
+    /**
+     * A maze over existing words, e.g. a mapped file. Its walls are whatever the words already hold.
+     */
+    public Maze(int width, int height, Words words) {
+        if (words.length() < wordCount(width, height))
+            throw new IllegalArgumentException("Need " + wordCount(width, height) + " words, got " + words.length());
+
+        this.width = width;
+        this.height = height;
+        this.words = words;
+    }
+
+    public static int wordCount(int width, int height) {
+        if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Unsupported maze size: " + width + "x" + height);
+
+        return (int) (((long) width * height + 31) >>> 5);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int size() {
+        return width * height;
+    }
+
+    public Words words() {
+        return words;
+    }
+
+    /**
+     * Whether a {@link TorusGrid} keeps its wrapping passages here, in the {@link #RIGHT} bits of the last column
+     * and the {@link #DOWN} bits of the last row, where {@link #isOpen} would report them as leading off the grid.
+     */
+    public boolean wraps() {
+        return wraps;
+    }
+
+    /**
+     * Returns this maze, or throws {@link IllegalArgumentException} if it {@link #wraps}, for readers that step
+     * between cells as on a square grid.
+     */
+    public Maze requireSquare() {
+        if (wraps) throw new IllegalArgumentException("Wrapping torus maze, need a square one: " + width + "x" + height);
+        return this;
+    }
+
+    void wrap() {
+        wraps = true;
+    }
+
+    public boolean isOpen(int cell, int dir) {
+        return switch (dir) {
+            case UP -> cell >= width && bit(cell - width, 1);
+            case DOWN -> bit(cell, 1);
+            case LEFT -> cell % width != 0 && bit(cell - 1, 0);
+            case RIGHT -> bit(cell, 0);
+            default -> throw new IllegalArgumentException("Unknown direction: " + dir);
+        };
+    }
+
+    public void carve(int cell, int dir) {
+        switch (dir) {
+            case UP -> set(cell - width, 1);
+            case DOWN -> set(cell, 1);
+            case LEFT -> set(cell - 1, 0);
+            case RIGHT -> set(cell, 0);
+            default -> throw new IllegalArgumentException("Unknown direction: " + dir);
+        }
+    }
+
+    /**
+     * Same as {@link #carve}, but safe against other threads carving cells that share the same word.
+     */
+    public void carveAtomic(int cell, int dir) {
+        switch (dir) {
+            case UP -> setAtomic(cell - width, 1);
+            case DOWN -> setAtomic(cell, 1);
+            case LEFT -> setAtomic(cell - 1, 0);
+            case RIGHT -> setAtomic(cell, 0);
+            default -> throw new IllegalArgumentException("Unknown direction: " + dir);
+        }
+    }
+
+    /**
+     * Puts back the wall that {@link #carve} removes.
+     */
+    public void wall(int cell, int dir) {
+        switch (dir) {
+            case UP -> clear(cell - width, 1);
+            case DOWN -> clear(cell, 1);
+            case LEFT -> clear(cell - 1, 0);
+            case RIGHT -> clear(cell, 0);
+            default -> throw new IllegalArgumentException("Unknown direction: " + dir);
+        }
+    }
+
+    public void copyTo(Maze target) {
+        if (target.width != width || target.height != height)
+            throw new IllegalArgumentException("Size mismatch: " + target.width + "x" + target.height);
+
+        for (int i = 0, n = wordCount(width, height); i < n; i++) target.words.set(i, words.get(i));
+        target.wraps = wraps;
+    }
+
+    public static int opposite(int dir) {
+        return dir ^ 1;
+    }
+
+    private boolean bit(int cell, int offset) {
+        return (words.get(cell >>> 5) & 1L << ((cell & 31) << 1 | offset)) != 0;
+    }
+
+    private void set(int cell, int offset) {
+        words.or(cell >>> 5, 1L << ((cell & 31) << 1 | offset));
+    }
+
+    private void clear(int cell, int offset) {
+        int i = cell >>> 5;
+        words.set(i, words.get(i) & ~(1L << ((cell & 31) << 1 | offset)));
+    }
+
+    private void setAtomic(int cell, int offset) {
+        words.orAtomic(cell >>> 5, 1L << ((cell & 31) << 1 | offset));
+    }
+}
@@ -0,0 +1,127 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Bits;
+import com.gen.maze.engine.data.LinkCutForest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Regenerates rectangular regions of a perfect maze in place. Whether two pieces of the maze outside a region are
+ * still connected cannot be read off the region itself, so the editor mirrors the maze's spanning tree in a
+ * {@link LinkCutForest}: loading it is one O(n) traversal, after which each edit costs
+ * O((area + perimeter) log n) however large the maze is.
+ * <p>
+ * All edits to the maze must go through the editor once it is created. Mazes that {@link Maze#wraps wrap} are
+ * rejected.
+ */
+public final class MazeEditor {
+    private final Maze maze;
+    private final LinkCutForest forest;
+
+    public MazeEditor(Maze maze) {
+        this.maze = maze.requireSquare();
+        this.forest = new LinkCutForest(maze.size());
+
+        int n = maze.size(), w = maze.width();
+        var seen = Bits.create(n);
+        var queue = new int[n];
+        int head = 0, tail = 0;
+
+        queue[tail++] = 0;
+        Bits.set(seen, 0);
+        while (head != tail) {
+            int c = queue[head++];
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(c, d)) continue;
+
+                int m = neighbour(c, d, w);
+                if (!Bits.get(seen, m)) {
+                    Bits.set(seen, m);
+                    forest.attach(m, c);
+                    queue[tail++] = m;
+                }
+            }
+        }
+
+        long passages = 0;
+        for (int c = 0; c < n; c++) {
+            if (maze.isOpen(c, Maze.RIGHT)) passages++;
+            if (maze.isOpen(c, Maze.DOWN)) passages++;
+        }
+        if (tail != n || passages != n - 1) throw new IllegalArgumentException("Not a perfect maze");
+    }
+
+    public Maze maze() {
+        return maze;
+    }
+
+    public void regenerate(int x, int y, int width, int height, Generator generator, RandomGenerator random) {
+        regenerate(x, y, width, height, generator, random, null);
+    }
+
+    /**
+     * Walls off the region, carves it afresh with {@code generator}, then opens randomly chosen border passages,
+     * one for every piece of the maze that is not yet connected to the region. The maze stays perfect. Visitor
+     * cell ids are local to the region. If the generator throws, the maze is left with the region unfinished.
+     */
+    public void regenerate(int x, int y, int width, int height, Generator generator, RandomGenerator random,
+                           Visitor visitor) {
+        if (x < 0 || y < 0 || width <= 0 || height <= 0 || x + width > maze.width() || y + height > maze.height())
+            throw new IllegalArgumentException("Region out of bounds: " + x + "," + y + " " + width + "x" + height);
+
+        int w = maze.width();
+        var border = new int[2 * (width + height)]; // cell << 2 | dir
+        int k = 0;
+
+        for (int ry = y; ry < y + height; ry++) {
+            for (int rx = x; rx < x + width; rx++) {
+                int c = ry * w + rx;
+                for (int d = 0; d < 4; d++) {
+                    int nx = rx + (d == Maze.LEFT ? -1 : d == Maze.RIGHT ? 1 : 0);
+                    int ny = ry + (d == Maze.UP ? -1 : d == Maze.DOWN ? 1 : 0);
+                    if (nx < 0 || ny < 0 || nx >= w || ny >= maze.height()) continue;
+
+                    boolean inside = nx >= x && ny >= y && nx < x + width && ny < y + height;
+                    if (inside && (d == Maze.UP || d == Maze.LEFT)) continue; // counted from the other cell
+                    if (!inside) border[k++] = c << 2 | d;
+
+                    if (maze.isOpen(c, d)) {
+                        forest.cut(c, ny * w + nx);
+                        maze.wall(c, d);
+                    }
+                }
+            }
+        }
+
+        generator.generate(new Grid(maze).region(x, y, width, height), random, visitor);
+
+        for (int ry = y; ry < y + height; ry++) {
+            for (int rx = x; rx < x + width; rx++) {
+                int c = ry * w + rx;
+                if (rx + 1 < x + width && maze.isOpen(c, Maze.RIGHT)) forest.link(c, c + 1);
+                if (ry + 1 < y + height && maze.isOpen(c, Maze.DOWN)) forest.link(c, c + w);
+            }
+        }
+
+        for (int i = k - 1; i >= 0; i--) { // Fisher-Yates, consumed as it goes
+            int j = random.nextInt(i + 1);
+            int e = border[j];
+            border[j] = border[i];
+
+            int c = e >>> 2, d = e & 3, m = neighbour(c, d, w);
+            if (!forest.connected(c, m)) {
+                forest.link(c, m);
+                maze.carve(c, d);
+            }
+        }
+    }
+
+    private static int neighbour(int c, int d, int w) {
+        return switch (d) {
+            case Maze.UP -> c - w;
+            case Maze.DOWN -> c + w;
+            case Maze.LEFT -> c - 1;
+            default -> c + 1;
+        };
+    }
+}
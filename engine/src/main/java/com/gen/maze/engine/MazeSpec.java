@@ -0,0 +1,29 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Storage;
+
+/**
+ * Everything needed to reproduce a maze: generating the same spec twice yields identical walls.
+ */
+public record MazeSpec(String algorithm, int width, int height, long seed, RandomSource source) {
+    public MazeSpec(String algorithm, int rank, long seed) {
+        this(algorithm, rank, rank, seed, RandomSource.SPLITTABLE);
+    }
+
+    public Maze generate() {
+        return generate(null);
+    }
+
+    public Maze generate(Visitor visitor) {
+        return generate(Storage.heap(), visitor);
+    }
+
+    /**
+     * Generates into {@code storage}; the generator's scratch state is allocated there too.
+     */
+    public Maze generate(Storage storage, Visitor visitor) {
+        var maze = new Maze(width, height, storage);
+        Generators.byName(algorithm, source::create).generate(maze, source.create(seed), visitor);
+        return maze;
+    }
+}
@@ -0,0 +1,33 @@
+package com.gen.maze.engine;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Random number strategies for generation. The same source and seed always carve the same maze,
+ * except for {@link #SECURE}, which ignores the seed and is only there for callers that opt into it.
+ */
+public enum RandomSource {
+    SPLITTABLE {
+        @Override
+        public RandomGenerator create(long seed) {
+            return new SplittableRandom(seed);
+        }
+    },
+    XOROSHIRO {
+        @Override
+        public RandomGenerator create(long seed) {
+            return RandomGeneratorFactory.of("Xoroshiro128PlusPlus").create(seed);
+        }
+    },
+    SECURE {
+        @Override
+        public RandomGenerator create(long seed) {
+            return new SecureRandom();
+        }
+    };
+
+    public abstract RandomGenerator create(long seed);
+}
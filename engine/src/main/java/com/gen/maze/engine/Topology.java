@@ -0,0 +1,56 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Storage;
+
+/**
+ * Cells numbered {@code y * width + x} over a {@code width x height} rectangle, each with up to {@link #degree}
+ * directions. Directions come in opposite pairs {@code d} and {@code d ^ 1}; odd directions point forward,
+ * direction 3 is the next cell in the same row and the other odd directions lead into the next row. Neighbours
+ * are computed from the id, and a missing or disabled neighbour is -1.
+ * <p>
+ * The implementations are final, so a generator running on one of them sees a single receiver type and the JIT
+ * inlines its neighbour arithmetic.
+ */
+public sealed interface Topology permits Grid, HexGrid, TorusGrid, MaskedGrid {
+    int RIGHT = 3;
+
+    int width();
+
+    int height();
+
+    int size();
+
+    int degree();
+
+    int neighbour(int cell, int dir);
+
+    boolean isOpen(int cell, int dir);
+
+    void carve(int cell, int dir);
+
+    /**
+     * Where generators allocate scratch state: the storage of the words this topology carves into.
+     */
+    Storage storage();
+
+    /**
+     * Whether {@code cell} is part of the maze. Disabled cells are never anyone's neighbour.
+     */
+    default boolean contains(int cell) {
+        return true;
+    }
+
+    /**
+     * The number of enabled cells; a perfect maze carves one passage fewer.
+     */
+    default int cells() {
+        return size();
+    }
+
+    /**
+     * The lowest enabled cell.
+     */
+    default int first() {
+        return 0;
+    }
+}
@@ -0,0 +1,76 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Storage;
+
+/**
+ * A square grid whose rows and columns wrap around, stored in a {@link Maze}: the {@link Maze#RIGHT} bit of the
+ * last column and the {@link Maze#DOWN} bit of the last row hold the wrapping passages. The maze is marked as
+ * {@link Maze#wraps wrapping}, so square-only readers such as {@link com.gen.maze.engine.render.Raster} reject it.
+ */
+public final class TorusGrid implements Topology {
+    private final Maze maze;
+    private final int width, height, size;
+
+    public TorusGrid(Maze maze) {
+        maze.wrap();
+        this.maze = maze;
+        this.width = maze.width();
+        this.height = maze.height();
+        this.size = maze.size();
+    }
+
+    public Maze maze() {
+        return maze;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int degree() {
+        return 4;
+    }
+
+    @Override
+    public Storage storage() {
+        return maze.words().storage();
+    }
+
+    @Override
+    public int neighbour(int cell, int dir) {
+        int n = switch (dir) {
+            case Maze.UP -> cell >= width ? cell - width : cell + size - width;
+            case Maze.DOWN -> cell < size - width ? cell + width : cell - size + width;
+            case Maze.LEFT -> cell % width != 0 ? cell - 1 : cell + width - 1;
+            case Maze.RIGHT -> cell % width != width - 1 ? cell + 1 : cell - width + 1;
+            default -> throw new IllegalArgumentException("Unknown direction: " + dir);
+        };
+        return n != cell ? n : -1; // a one-wide torus has no passage to itself
+    }
+
+    @Override
+    public boolean isOpen(int cell, int dir) {
+        if ((dir & 1) != 0) return maze.isOpen(cell, dir);
+
+        int n = neighbour(cell, dir);
+        return n >= 0 && maze.isOpen(n, dir ^ 1);
+    }
+
+    @Override
+    public void carve(int cell, int dir) {
+        if ((dir & 1) != 0) maze.carve(cell, dir);
+        else maze.carve(neighbour(cell, dir), dir ^ 1);
+    }
+}
@@ -0,0 +1,48 @@
+package com.gen.maze.engine;
+
+/**
+ * Generator callbacks. {@link #onStep}, {@link #onDepth}, {@link #onFinds} and {@link #onUnion} exist for
+ * instrumentation such as {@link com.gen.maze.engine.metrics.Metrics}; generators only make these calls when a
+ * visitor is given.
+ */
+public interface Visitor {
+    default void onVisit(int cell) {
+    }
+
+    default void onCarve(int cell, int dir) {
+    }
+
+    /**
+     * One unit of the generator's work, such as a loop iteration or a shuffle swap, whether or not it carved.
+     * Called often enough to serve as a cancellation point, see {@link GenerationContext}.
+     */
+    default void onStep() {
+    }
+
+    /**
+     * The backtracking stack, or the growing tree's list of active cells, grew to {@code depth}.
+     */
+    default void onDepth(int depth) {
+    }
+
+    /**
+     * {@code count} union-find lookups, two for every union Kruskal or tile stitching tries, joined or not.
+     */
+    default void onFinds(int count) {
+    }
+
+    /**
+     * A union of two cells whose finds walked {@code depthA} and {@code depthB} links to their roots, or zeros
+     * unless {@link #wantsUnionDepth}.
+     */
+    default void onUnion(int depthA, int depthB) {
+    }
+
+    /**
+     * Whether {@link #onUnion} should get find depths. Measuring them walks both paths once more for every union
+     * tried, so generators only do it when asked.
+     */
+    default boolean wantsUnionDepth() {
+        return false;
+    }
+}
@@ -0,0 +1,237 @@
+package com.gen.maze.engine.cli;
+
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.Grid;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.data.OffHeap;
+import com.gen.maze.engine.data.Storage;
+import com.gen.maze.engine.io.MazeFile;
+import com.gen.maze.engine.metrics.Texture;
+import com.gen.maze.engine.render.Ascii;
+import com.gen.maze.engine.render.Png;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Headless bulk generation: one file per seed, generated in parallel, then a throughput summary.
+ * Binary files are carved straight into their mapping; images and text are streamed through a channel.
+ */
+public final class Cli {
+    private static final String USAGE = """
+            Usage: --algorithm NAME --rank N --seeds FROM[..TO] --out DIR [options]
+              --format maze|png|ascii   output format (default maze)
+              --threads N               parallel generations (default: available processors)
+              --source NAME             SPLITTABLE or XOROSHIRO (default SPLITTABLE)
+              --storage heap|off-heap   where generator scratch state and png and ascii mazes are kept
+                                        (default heap); maze files are always carved in their mapping
+              --texture                 also write texture.csv: dead ends, corridors, junctions, river
+                                        factor, diameter and straight runs per seed
+            Seed ranges are inclusive and may be negative. Algorithms: %s, or parallel- followed by any of them.
+            growing-tree takes a policy mix, as in growing-tree:newest=3,random=1 (newest, random, oldest).""";
+
+    enum Format {
+        MAZE("maze"), PNG("png"), ASCII("txt");
+
+        final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    record Options(String algorithm, int rank, long from, long to, Path out, Format format, int threads,
+                   RandomSource source, boolean offHeap, boolean texture) {
+    }
+
+    private Cli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        if (Arrays.asList(args).contains("--help")) {
+            out.println(usage());
+            return 0;
+        }
+
+        Options options;
+        try {
+            options = parse(args);
+            Generators.byName(options.algorithm());
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(usage());
+            return 2;
+        }
+
+        try {
+            generate(options, out);
+            return 0;
+        } catch (IOException | UncheckedIOException e) {
+            err.println("I/O error: " + e.getMessage());
+            return 1;
+        } catch (IllegalArgumentException | IllegalStateException e) { // e.g. a name too long for the file header
+            err.println(e.getMessage());
+            return 2;
+        }
+    }
+
+    private static String usage() {
+        return USAGE.formatted(String.join(", ", Generators.names()));
+    }
+
+    static Options parse(String[] args) {
+        String algorithm = null;
+        Path out = null;
+        int rank = -1, threads = Runtime.getRuntime().availableProcessors();
+        long from = 0, to = 0;
+        var format = Format.MAZE;
+        var source = RandomSource.SPLITTABLE;
+        boolean seeds = false, offHeap = false, texture = false;
+
+        for (int i = 0; i < args.length; i++) {
+            var option = args[i];
+            if (option.equals("--texture")) {
+                texture = true;
+                continue;
+            }
+            if (i + 1 == args.length) throw new IllegalArgumentException("Missing value for " + option);
+
+            var value = args[++i];
+            try {
+                switch (option) {
+                    case "--algorithm" -> algorithm = value;
+                    case "--rank" -> rank = Integer.parseInt(value);
+                    case "--seeds" -> {
+                        int dots = value.indexOf("..");
+                        from = Long.parseLong(dots < 0 ? value : value.substring(0, dots));
+                        to = dots < 0 ? from : Long.parseLong(value.substring(dots + 2));
+                        seeds = true;
+                    }
+                    case "--out" -> out = Path.of(value);
+                    case "--format" -> format = Format.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--source" -> source = RandomSource.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--storage" -> offHeap = switch (value) {
+                        case "heap" -> false;
+                        case "off-heap" -> true;
+                        default -> throw new IllegalArgumentException("Unknown storage: " + value);
+                    };
+                    default -> throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number for " + option + ": " + value);
+            }
+        }
+
+        if (algorithm == null || out == null || rank < 0 || !seeds)
+            throw new IllegalArgumentException("--algorithm, --rank, --seeds and --out are required");
+        if (rank < 1 || threads < 1) throw new IllegalArgumentException("--rank and --threads must be positive");
+        Maze.wordCount(rank, rank); // rejects ranks whose cell count overflows an int
+        if (from > to) throw new IllegalArgumentException("Empty seed range: " + from + ".." + to);
+        if (to - from + 1 <= 0) throw new IllegalArgumentException("Too many seeds: " + from + ".." + to); // wrapped
+        if (source == RandomSource.SECURE) throw new IllegalArgumentException("SECURE ignores seeds");
+
+        return new Options(algorithm, rank, from, to, out, format, threads, source, offHeap, texture);
+    }
+
+    private static void generate(Options options, PrintStream out) throws IOException {
+        Files.createDirectories(options.out());
+
+        var written = new LongAdder();
+        var textures = options.texture() ? new ConcurrentSkipListMap<Long, Texture>() : null;
+        var pool = new ForkJoinPool(options.threads());
+        long start = System.nanoTime();
+        try {
+            pool.submit(() -> LongStream.rangeClosed(options.from(), options.to()).parallel()
+                    .forEach(seed -> written.add(write(options, seed, pool, textures)))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException u) throw u.getCause();
+            if (e.getCause() instanceof RuntimeException r) throw r;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long mazes = options.to() - options.from() + 1;
+        double cells = (double) mazes * options.rank() * options.rank();
+        out.printf(Locale.ROOT, "%d mazes, %.0f cells, %.1f MB in %.2f s: %.1f mazes/s, %.2f Mcells/s, %.1f MB/s%n",
+                mazes, cells, written.sum() / 1e6, seconds, mazes / seconds, cells / 1e6 / seconds,
+                written.sum() / 1e6 / seconds);
+
+        if (textures != null) writeTextures(options, textures);
+    }
+
+    private static void writeTextures(Options options, Map<Long, Texture> textures) throws IOException {
+        int buckets = 32 - Integer.numberOfLeadingZeros(Math.max(1, options.rank() - 1)); // up to the longest run
+        var csv = new StringBuilder("seed,dead_ends,corridors,straight_corridors,junctions,river_factor,diameter");
+        for (int k = 0; k < buckets; k++) csv.append(",runs_").append(1 << k);
+        csv.append('\n');
+
+        textures.forEach((seed, t) -> {
+            csv.append(String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%.3f,%d", seed, t.deadEnds(), t.corridors(),
+                    t.straightCorridors(), t.junctions(), t.riverFactor(), t.diameter()));
+            for (int k = 0; k < buckets; k++) csv.append(',').append(t.straightRuns()[k]);
+            csv.append('\n');
+        });
+        Files.writeString(options.out().resolve("texture.csv"), csv);
+    }
+
+    /**
+     * Generates one seed into its file and returns the bytes written, measuring its texture into
+     * {@code textures} unless that is {@code null}.
+     */
+    private static long write(Options options, long seed, ForkJoinPool pool, Map<Long, Texture> textures) {
+        var spec = new MazeSpec(options.algorithm(), options.rank(), options.rank(), seed, options.source());
+        var path = options.out().resolve("%s-%d-%d.%s".formatted(MazeFile.fileName(spec.algorithm()), spec.width(),
+                seed, options.format().extension));
+
+        try {
+            if (options.format() == Format.MAZE) {
+                try (var arena = Arena.ofShared(); var file = MazeFile.create(path, spec)) {
+                    var grid = new Grid(file.maze());
+                    var generator = Generators.byName(spec.algorithm(), spec.source()::create);
+                    generator.generate(options.offHeap() ? grid.scratch(OffHeap.storage(arena)) : grid,
+                            spec.source().create(seed), null);
+                    if (textures != null) textures.put(seed, Texture.of(file.maze(), pool));
+                }
+                return Files.size(path);
+            }
+
+            try (var arena = Arena.ofShared(); // parallel generators and the texture scan read it from pool threads
+                 var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                var maze = spec.generate(options.offHeap() ? OffHeap.storage(arena) : Storage.heap(), null);
+                if (textures != null) textures.put(seed, Texture.of(maze, pool));
+                if (options.format() == Format.PNG) Png.write(maze, channel);
+                else Ascii.write(maze, channel);
+                return channel.position();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.gen.maze.engine.data;
+
+/**
+ * Helpers for bitsets in plain {@code long[]}s or {@link Words}, kept static so hot loops touch nothing but the
+ * words.
+ */
+public final class Bits {
+    private Bits() {
+    }
+
+    public static long[] create(int bits) {
+        return new long[(bits + 63) >>> 6];
+    }
+
+    /**
+     * A zeroed bitset of {@code bits} bits in {@code storage}.
+     */
+    public static Words create(Storage storage, int bits) {
+        return storage.words((bits + 63) >>> 6);
+    }
+
+    public static boolean get(long[] words, int bit) {
+        return (words[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    public static void set(long[] words, int bit) {
+        words[bit >>> 6] |= 1L << bit;
+    }
+
+    public static boolean get(Words words, int bit) {
+        return (words.get(bit >>> 6) & 1L << bit) != 0;
+    }
+
+    public static void set(Words words, int bit) {
+        words.or(bit >>> 6, 1L << bit);
+    }
+
+    /**
+     * Moves bit {@code i} of {@code bits} to bit {@code 2i} of the result, leaving the odd bits clear.
+     */
+    public static long spread(int bits) {
+        long x = bits & 0xFFFFFFFFL;
+        x = (x | x << 16) & 0x0000FFFF0000FFFFL;
+        x = (x | x << 8) & 0x00FF00FF00FF00FFL;
+        x = (x | x << 4) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | x << 2) & 0x3333333333333333L;
+        return (x | x << 1) & 0x5555555555555555L;
+    }
+
+    /**
+     * The index of the {@code n}-th (0-based) set bit of {@code mask}.
+     */
+    public static int nthSetBit(int mask, int n) {
+        for (; n > 0; n--) mask &= mask - 1;
+        return Integer.numberOfTrailingZeros(mask);
+    }
+}
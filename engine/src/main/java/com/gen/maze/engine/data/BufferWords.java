@@ -0,0 +1,50 @@
+package com.gen.maze.engine.data;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+final class BufferWords implements Words {
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer buffer;
+
+    BufferWords(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int length() {
+        return buffer.capacity() >>> 3;
+    }
+
+    @Override
+    public long get(int index) {
+        return (long) WORDS.get(buffer, index << 3);
+    }
+
+    @Override
+    public void set(int index, long value) {
+        WORDS.set(buffer, index << 3, value);
+    }
+
+    @Override
+    public void or(int index, long mask) {
+        WORDS.set(buffer, index << 3, (long) WORDS.get(buffer, index << 3) | mask);
+    }
+
+    @Override
+    public void orAtomic(int index, long mask) {
+        WORDS.getAndBitwiseOr(buffer, index << 3, mask);
+    }
+
+    /**
+     * The heap, even for mapped files: native scratch needs the preview foreign memory API, so it is only used
+     * when asked for, with {@link com.gen.maze.engine.Grid#scratch}.
+     */
+    @Override
+    public Storage storage() {
+        return Storage.heap();
+    }
+}
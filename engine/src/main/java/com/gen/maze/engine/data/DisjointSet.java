@@ -0,0 +1,77 @@
+package com.gen.maze.engine.data;
+
+import java.util.Arrays;
+
+/**
+ * Union-find over the ids {@code 0..n-1}. Roots hold their negated set size, every other id holds its parent,
+ * so the whole structure is a single {@code int[]}, or a single {@link Ints} outside the heap. {@link #find} is
+ * iterative and halves paths as it walks.
+ */
+public final class DisjointSet {
+    private final int[] parent; // null when the parents live in ints
+    private final Ints ints;
+
+    public DisjointSet(int n) {
+        this(n, Storage.heap());
+    }
+
+    public DisjointSet(int n, Storage storage) {
+        parent = storage == Storage.heap() ? new int[n] : null; // a plain array keeps the heap path as fast as before
+        ints = parent == null ? storage.ints(n) : null;
+        reset();
+    }
+
+    public void reset() {
+        if (parent != null) Arrays.fill(parent, -1);
+        else ints.fill(-1);
+    }
+
+    public int find(int id) {
+        int p;
+        while ((p = get(id)) >= 0) {
+            int g = get(p);
+            if (g < 0) return p;
+
+            set(id, g);
+            id = g;
+        }
+        return id;
+    }
+
+    /**
+     * Links from {@code id} to its root, without compressing anything.
+     */
+    public int depth(int id) {
+        int d = 0;
+        for (int p; (p = get(id)) >= 0; id = p) d++;
+        return d;
+    }
+
+    public boolean union(int a, int b) {
+        int r1 = find(a), r2 = find(b);
+        if (r1 == r2) return false;
+
+        int s1 = get(r1), s2 = get(r2);
+        if (s1 > s2) { // r1 is the smaller set
+            int t = r1;
+            r1 = r2;
+            r2 = t;
+        }
+        set(r1, s1 + s2);
+        set(r2, r1);
+        return true;
+    }
+
+    public int size(int id) {
+        return -get(find(id));
+    }
+
+    private int get(int id) {
+        return parent != null ? parent[id] : ints.get(id);
+    }
+
+    private void set(int id, int value) {
+        if (parent != null) parent[id] = value;
+        else ints.set(id, value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.gen.maze.engine.data;
+
+import java.util.Arrays;
+
+final class HeapInts implements Ints {
+    private final int[] ints;
+
+    HeapInts(int[] ints) {
+        this.ints = ints;
+    }
+
+    @Override
+    public int length() {
+        return ints.length;
+    }
+
+    @Override
+    public int get(int index) {
+        return ints[index];
+    }
+
+    @Override
+    public void set(int index, int value) {
+        ints[index] = value;
+    }
+
+    @Override
+    public void fill(int value) {
+        Arrays.fill(ints, value);
+    }
+}
@@ -0,0 +1,18 @@
+package com.gen.maze.engine.data;
+
+final class HeapStorage implements Storage {
+    static final HeapStorage INSTANCE = new HeapStorage();
+
+    private HeapStorage() {
+    }
+
+    @Override
+    public Words words(int length) {
+        return new HeapWords(new long[length]);
+    }
+
+    @Override
+    public Ints ints(int length) {
+        return new HeapInts(new int[length]);
+    }
+}
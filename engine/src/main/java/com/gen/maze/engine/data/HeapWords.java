@@ -0,0 +1,44 @@
+package com.gen.maze.engine.data;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+final class HeapWords implements Words {
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+
+    HeapWords(long[] words) {
+        this.words = words;
+    }
+
+    @Override
+    public int length() {
+        return words.length;
+    }
+
+    @Override
+    public long get(int index) {
+        return words[index];
+    }
+
+    @Override
+    public void set(int index, long value) {
+        words[index] = value;
+    }
+
+    @Override
+    public void or(int index, long mask) {
+        words[index] |= mask;
+    }
+
+    @Override
+    public void orAtomic(int index, long mask) {
+        WORDS.getAndBitwiseOr(words, index, mask);
+    }
+
+    @Override
+    public Storage storage() {
+        return Storage.heap();
+    }
+}
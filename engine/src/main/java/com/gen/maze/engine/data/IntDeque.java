@@ -0,0 +1,49 @@
+package com.gen.maze.engine.data;
+
+import java.util.Objects;
+
+/**
+ * Fixed-capacity ring of ints indexed from the oldest value, 0, to the newest, {@code size() - 1}. Removing
+ * either end keeps the order; removing any other index is O(1) too, by moving the newest value into its place.
+ */
+public final class IntDeque {
+    private final Ints ints;
+    private int head, size;
+
+    public IntDeque(int capacity, Storage storage) {
+        ints = storage.ints(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        return ints.get(slot(Objects.checkIndex(index, size)));
+    }
+
+    public void addLast(int value) {
+        if (size == ints.length()) throw new IllegalStateException("Deque is full: " + size);
+        ints.set(slot(size++), value);
+    }
+
+    /**
+     * Removes and returns the value at {@code index}.
+     */
+    public int remove(int index) {
+        int s = slot(Objects.checkIndex(index, size)), value = ints.get(s);
+        if (index == 0) head = slot(1);
+        else if (index != size - 1) ints.set(s, ints.get(slot(size - 1)));
+        size--;
+        return value;
+    }
+
+    private int slot(int index) {
+        int s = head + index;
+        return s >= ints.length() ? s - ints.length() : s;
+    }
+}
@@ -0,0 +1,14 @@
+package com.gen.maze.engine.data;
+
+/**
+ * Fixed-length array of ints for generator scratch state, allocated by a {@link Storage}.
+ */
+public interface Ints {
+    int length();
+
+    int get(int index);
+
+    void set(int index, int value);
+
+    void fill(int value);
+}
@@ -0,0 +1,141 @@
+package com.gen.maze.engine.data;
+
+import java.util.Arrays;
+
+/**
+ * A forest over the ids {@code 0..n-1} that can link and cut edges and answer connectivity in O(log n) amortised
+ * time. It is a link-cut tree: each preferred path is a splay tree keyed by depth, held in {@code int} arrays, and
+ * {@code parent} is either the splay parent or, for a splay root, the path-parent pointer. Nothing recurses.
+ */
+public final class LinkCutForest {
+    private final int[] left, right, parent;
+    private final boolean[] flipped;
+    private final int[] stack;
+
+    public LinkCutForest(int n) {
+        left = new int[n];
+        right = new int[n];
+        parent = new int[n];
+        flipped = new boolean[n];
+        stack = new int[n];
+        Arrays.fill(left, -1);
+        Arrays.fill(right, -1);
+        Arrays.fill(parent, -1);
+    }
+
+    /**
+     * Records {@code parent} as the tree parent of the root {@code id} without any balancing work, so a forest
+     * known from a traversal is loaded in O(n).
+     */
+    public void attach(int id, int parent) {
+        if (this.parent[id] >= 0) throw new IllegalArgumentException("Not a root: " + id);
+
+        this.parent[id] = parent;
+    }
+
+    public boolean connected(int a, int b) {
+        return a == b || root(a) == root(b);
+    }
+
+    /**
+     * Joins the trees of {@code a} and {@code b} with the edge {@code a - b}.
+     */
+    public void link(int a, int b) {
+        if (connected(a, b)) throw new IllegalArgumentException("Already connected: " + a + ", " + b);
+
+        makeRoot(a);
+        parent[a] = b;
+    }
+
+    public void cut(int a, int b) {
+        makeRoot(a);
+        access(b);
+        int l = left[b];
+        if (l != a) throw new IllegalArgumentException("No edge: " + a + ", " + b);
+
+        push(l);
+        if (right[l] >= 0) throw new IllegalArgumentException("No edge: " + a + ", " + b);
+
+        left[b] = -1;
+        parent[l] = -1;
+    }
+
+    public int root(int id) {
+        access(id);
+        int r = id;
+        push(r);
+        while (left[r] >= 0) {
+            r = left[r];
+            push(r);
+        }
+        splay(r);
+        return r;
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        flipped[x] ^= true;
+    }
+
+    /**
+     * Makes the path from the tree root to {@code x} preferred and splays {@code x} to the top of it.
+     */
+    private void access(int x) {
+        for (int last = -1, y = x; y >= 0; last = y, y = parent[y]) {
+            splay(y);
+            right[y] = last;
+        }
+        splay(x);
+    }
+
+    private void splay(int x) {
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) stack[top++] = parent[y];
+        while (top > 0) push(stack[--top]);
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) rotate((left[parent[p]] == p) == (left[p] == x) ? p : x);
+            rotate(x);
+        }
+    }
+
+    private void rotate(int x) {
+        int p = parent[x], g = parent[p];
+        boolean top = isSplayRoot(p);
+
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] >= 0) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] >= 0) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+
+        if (!top) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+    }
+
+    private void push(int x) {
+        if (!flipped[x]) return;
+
+        int t = left[x];
+        left[x] = right[x];
+        right[x] = t;
+        if (left[x] >= 0) flipped[left[x]] ^= true;
+        if (right[x] >= 0) flipped[right[x]] ^= true;
+        flipped[x] = false;
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p < 0 || left[p] != x && right[p] != x;
+    }
+}
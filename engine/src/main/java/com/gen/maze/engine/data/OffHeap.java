@@ -0,0 +1,37 @@
+package com.gen.maze.engine.data;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Native memory through the foreign memory API. That API is a preview in JDK 21, so it is confined to this class
+ * and the package-private segment classes: {@link Storage}, {@link Words} and everything else load without
+ * {@code --enable-preview}, which only off-heap mazes need.
+ */
+public final class OffHeap {
+    private OffHeap() {
+    }
+
+    /**
+     * Native memory from {@code arena}, released when the arena closes. Nothing allocated here may be used
+     * after that, and a confined arena limits generation to its owner thread.
+     */
+    public static Storage storage(Arena arena) {
+        return new SegmentStorage(arena);
+    }
+
+    /**
+     * Little-endian words over all of {@code segment}, e.g. native memory or a mapped file, without copying.
+     * Scratch state for native segments is allocated off the heap and freed by the garbage collector.
+     */
+    public static Words words(MemorySegment segment) {
+        return new SegmentWords(segment, segment.isNative() ? auto() : Storage.heap());
+    }
+
+    /**
+     * Native memory freed by the garbage collector.
+     */
+    static Storage auto() {
+        return storage(Arena.ofAuto());
+    }
+}
@@ -0,0 +1,32 @@
+package com.gen.maze.engine.data;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+final class SegmentInts implements Ints {
+    private final MemorySegment segment;
+
+    SegmentInts(MemorySegment segment) {
+        this.segment = segment;
+    }
+
+    @Override
+    public int length() {
+        return (int) (segment.byteSize() >>> 2);
+    }
+
+    @Override
+    public int get(int index) {
+        return segment.getAtIndex(ValueLayout.JAVA_INT, index);
+    }
+
+    @Override
+    public void set(int index, int value) {
+        segment.setAtIndex(ValueLayout.JAVA_INT, index, value);
+    }
+
+    @Override
+    public void fill(int value) {
+        for (long i = 0, n = segment.byteSize() >>> 2; i < n; i++) segment.setAtIndex(ValueLayout.JAVA_INT, i, value);
+    }
+}
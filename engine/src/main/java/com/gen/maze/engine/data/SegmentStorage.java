@@ -0,0 +1,23 @@
+package com.gen.maze.engine.data;
+
+import java.lang.foreign.Arena;
+import java.util.function.Consumer;
+
+record SegmentStorage(Arena arena) implements Storage {
+    @Override
+    public Words words(int length) {
+        return new SegmentWords(arena.allocate((long) length << 3, Long.BYTES), this);
+    }
+
+    @Override
+    public Ints ints(int length) {
+        return new SegmentInts(arena.allocate((long) length << 2, Integer.BYTES));
+    }
+
+    @Override
+    public void scoped(Consumer<Storage> work) {
+        try (var scope = Arena.ofConfined()) {
+            work.accept(new SegmentStorage(scope));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gen.maze.engine.data;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+final class SegmentWords implements Words {
+    private static final ValueLayout.OfLong WORD = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle ATOMIC = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN).arrayElementVarHandle();
+
+    private final MemorySegment segment;
+    private final Storage storage;
+
+    SegmentWords(MemorySegment segment, Storage storage) {
+        this.segment = segment;
+        this.storage = storage;
+    }
+
+    @Override
+    public int length() {
+        return (int) (segment.byteSize() >>> 3);
+    }
+
+    @Override
+    public long get(int index) {
+        return segment.getAtIndex(WORD, index);
+    }
+
+    @Override
+    public void set(int index, long value) {
+        segment.setAtIndex(WORD, index, value);
+    }
+
+    @Override
+    public void or(int index, long mask) {
+        segment.setAtIndex(WORD, index, segment.getAtIndex(WORD, index) | mask);
+    }
+
+    @Override
+    public void orAtomic(int index, long mask) {
+        ATOMIC.getAndBitwiseOr(segment, (long) index, mask); // needs the segment 8-byte aligned
+    }
+
+    @Override
+    public Storage storage() {
+        return storage;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gen.maze.engine.data;
+
+import java.util.function.Consumer;
+
+/**
+ * Allocates zeroed maze words and generator scratch state. Generators allocate from the storage of the words
+ * they carve into, so a maze built off the heap keeps its visited bits, stacks and union-find parents off the
+ * heap too. Native memory comes from {@link OffHeap}. Mazes mapped from files keep their scratch state on the heap
+ * unless given other storage with {@link com.gen.maze.engine.Grid#scratch}.
+ */
+public interface Storage {
+    Words words(int length);
+
+    Ints ints(int length);
+
+    static Storage heap() {
+        return HeapStorage.INSTANCE;
+    }
+
+    /**
+     * Runs {@code work} on the calling thread with storage of the same kind as this one, released when it
+     * returns. The heap just passes itself.
+     */
+    default void scoped(Consumer<Storage> work) {
+        work.accept(this);
+    }
+}
@@ -0,0 +1,38 @@
+package com.gen.maze.engine.data;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-length array of 64-bit words backing a maze's wall bits.
+ */
+public interface Words {
+    int length();
+
+    long get(int index);
+
+    void set(int index, long value);
+
+    void or(int index, long mask);
+
+    /**
+     * Same as {@link #or}, but safe against other threads updating the same word.
+     */
+    void orAtomic(int index, long mask);
+
+    /**
+     * Where scratch state for work on these words should be allocated.
+     */
+    Storage storage();
+
+    static Words onHeap(int length) {
+        return new HeapWords(new long[length]);
+    }
+
+    /**
+     * Little-endian words over {@code buffer} from its position to its limit, without copying. For native memory
+     * segments, see {@link OffHeap#words}.
+     */
+    static Words of(ByteBuffer buffer) {
+        return new BufferWords(buffer.slice());
+    }
+}
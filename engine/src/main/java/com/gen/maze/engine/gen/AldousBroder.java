@@ -0,0 +1,41 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.Bits;
+
+import java.util.random.RandomGenerator;
+
+public final class AldousBroder implements Generator {
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        int tC = grid.cells(); // totalCells
+        int degree = grid.degree();
+        var visited = Bits.create(grid.storage(), grid.size());
+        int curC = grid.first(); // current cell
+        int vC = 1; // visitedCells
+
+        Bits.set(visited, curC);
+        while (vC != tC) {
+            if (visitor != null) visitor.onStep();
+
+            int dir = random.nextInt(degree);
+            int newC = grid.neighbour(curC, dir);
+            if (newC < 0) continue;
+
+            if (!Bits.get(visited, newC)) {
+                vC++;
+
+                if (visitor != null) {
+                    visitor.onVisit(curC);
+                    visitor.onCarve(curC, dir);
+                }
+                grid.carve(curC, dir);
+
+                Bits.set(visited, newC);
+            }
+            curC = newC;
+        }
+    }
+}
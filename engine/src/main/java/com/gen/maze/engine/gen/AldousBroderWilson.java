@@ -0,0 +1,59 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.Bits;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Aldous-Broder while most steps still reach new cells, then Wilson once {@code coverage} of the grid is in
+ * the tree, where its walks are short. Both halves keep the spanning tree unbiased.
+ */
+public final class AldousBroderWilson implements Generator {
+    private final double coverage;
+
+    public AldousBroderWilson() {
+        this(1.0 / 3);
+    }
+
+    public AldousBroderWilson(double coverage) {
+        if (!(coverage >= 0 && coverage <= 1)) throw new IllegalArgumentException("Coverage out of [0, 1]: " + coverage);
+
+        this.coverage = coverage;
+    }
+
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        var visited = Bits.create(grid.storage(), grid.size());
+        int tC = Math.max(1, (int) (grid.cells() * coverage)); // target cells
+        int degree = grid.degree();
+        int curC = Wilson.randomCell(grid, random);
+        int vC = 1;
+
+        Bits.set(visited, curC);
+        while (vC < tC) {
+            if (visitor != null) visitor.onStep();
+
+            int dir = random.nextInt(degree);
+            int newC = grid.neighbour(curC, dir);
+            if (newC < 0) continue;
+
+            if (!Bits.get(visited, newC)) {
+                vC++;
+
+                if (visitor != null) {
+                    visitor.onVisit(curC);
+                    visitor.onCarve(curC, dir);
+                }
+                grid.carve(curC, dir);
+
+                Bits.set(visited, newC);
+            }
+            curC = newC;
+        }
+
+        Wilson.complete(grid, random, visitor, visited);
+    }
+}
@@ -0,0 +1,54 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.Bits;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Recursive backtracker on an explicit int stack of cell ids. Unvisited neighbours are collected as a
+ * direction bitmask, so after the stack and the visited bitset are allocated no step allocates anything.
+ */
+public final class Backtracking implements Generator {
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        var visited = Bits.create(grid.storage(), grid.size());
+        var stack = grid.storage().ints(grid.size());
+        int top = 0, degree = grid.degree();
+
+        stack.set(top++, grid.first());
+        Bits.set(visited, grid.first());
+
+        while (top != 0) {
+            int curC = stack.get(top - 1);
+            int unvisited = 0;
+            for (int dir = 0; dir < degree; dir++) {
+                int c = grid.neighbour(curC, dir);
+                if (c >= 0 && !Bits.get(visited, c)) unvisited |= 1 << dir;
+            }
+
+            if (visitor != null) {
+                visitor.onStep();
+                visitor.onVisit(curC);
+            }
+
+            if (unvisited == 0) {
+                top--;
+                continue;
+            }
+
+            int dir = Bits.nthSetBit(unvisited, random.nextInt(Integer.bitCount(unvisited)));
+            int newC = grid.neighbour(curC, dir);
+
+            if (visitor != null) visitor.onCarve(curC, dir);
+            grid.carve(curC, dir);
+
+            Bits.set(visited, newC);
+
+            stack.set(top++, newC);
+            if (visitor != null) visitor.onDepth(top);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Grid;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.Bits;
+import com.gen.maze.engine.data.DisjointSet;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Every cell carves towards a random forward neighbour with a higher id. On a full square, hex or torus grid
+ * that leaves exactly one cell without a choice, so the result is a tree; on a masked grid the pieces left over
+ * are joined with {@link Kruskal#complete}.
+ * <p>
+ * On a square grid each cell's choice is one bit of a random {@code long}, 64 cells per draw. Cells do not
+ * depend on each other, so a whole maze without a visitor is written a word at a time: 32 random bits are
+ * spread into the {@link Maze#RIGHT} bits and their complement into the {@link Maze#DOWN} bits, then the last
+ * column and row are fixed up. The cell-by-cell path draws the same bits and carves the same maze.
+ */
+public final class BinaryTree implements Generator {
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        if (!(grid instanceof Grid square)) general(grid, random, visitor);
+        else if (visitor == null && isWhole(square)) words(square.maze(), random);
+        else square(square, random, visitor);
+    }
+
+    static boolean isWhole(Grid grid) {
+        return grid.width() == grid.maze().width() && grid.height() == grid.maze().height();
+    }
+
+    private static void words(Maze maze, RandomGenerator random) {
+        var words = maze.words();
+        int width = maze.width(), size = maze.size(), count = Maze.wordCount(width, maze.height());
+
+        long bits = 0;
+        for (int i = 0; i < count; i++) {
+            if ((i & 1) == 0) bits = random.nextLong();
+
+            long right = Bits.spread((int) (bits >>> ((i & 1) << 5)));
+            words.set(i, right | (~right & Maze.RIGHT_BITS) << 1);
+        }
+        if ((size & 31) != 0) words.set(count - 1, words.get(count - 1) & (1L << ((size & 31) << 1)) - 1);
+
+        for (int c = width - 1; c < size; c += width) {
+            maze.wall(c, Maze.RIGHT);
+            maze.carve(c, Maze.DOWN);
+        }
+        for (int c = size - width; c < size - 1; c++) {
+            maze.wall(c, Maze.DOWN);
+            maze.carve(c, Maze.RIGHT);
+        }
+        maze.wall(size - 1, Maze.DOWN);
+    }
+
+    private static void square(Grid grid, RandomGenerator random, Visitor visitor) {
+        int width = grid.width(), height = grid.height();
+
+        long bits = 0;
+        for (int y = 0, c = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, c++) {
+                if ((c & 63) == 0) bits = random.nextLong();
+
+                if (visitor != null) {
+                    visitor.onStep();
+                    visitor.onVisit(c);
+                }
+
+                boolean down = y + 1 < height;
+                boolean right = x + 1 < width;
+
+                int dir;
+                if (down && right) dir = (bits >>> c & 1) != 0 ? Maze.RIGHT : Maze.DOWN;
+                else if (down) dir = Maze.DOWN;
+                else if (right) dir = Maze.RIGHT;
+                else continue;
+
+                if (visitor != null) visitor.onCarve(c, dir);
+                grid.carve(c, dir);
+            }
+        }
+    }
+
+    private static void general(Topology grid, RandomGenerator random, Visitor visitor) {
+        var sets = new DisjointSet(grid.size(), grid.storage());
+        var choices = new int[grid.degree() >>> 1];
+        int carved = 0;
+
+        for (int c = 0; c < grid.size(); c++) {
+            if (!grid.contains(c)) continue;
+
+            if (visitor != null) {
+                visitor.onStep();
+                visitor.onVisit(c);
+            }
+
+            int n = 0;
+            for (int d = 1; d < grid.degree(); d += 2) {
+                if (grid.neighbour(c, d) > c) choices[n++] = d; // no wrapping, so no cycles
+            }
+            if (n == 0) continue;
+
+            int dir = choices[n == 1 ? 0 : random.nextInt(n)];
+            sets.union(c, grid.neighbour(c, dir));
+            carved++;
+
+            if (visitor != null) visitor.onCarve(c, dir);
+            grid.carve(c, dir);
+        }
+
+        if (carved != grid.cells() - 1) Kruskal.complete(grid, random, visitor, sets);
+    }
+}
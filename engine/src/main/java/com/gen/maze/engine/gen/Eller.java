@@ -0,0 +1,233 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Grid;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.DisjointSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Eller's algorithm, one row at a time. Only the current row's sets are kept, so {@link #rows} can stream
+ * mazes of any height in O(width) memory. Other topologies run the same row sweep over a full
+ * {@link DisjointSet}, joining along every forward direction into the next row, and finish any pieces a mask
+ * cut off with {@link Kruskal#complete}.
+ */
+public final class Eller implements Generator {
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        if (grid instanceof Grid square) square(square, random, visitor);
+        else general(grid, random, visitor);
+    }
+
+    private static void square(Grid grid, RandomGenerator random, Visitor visitor) {
+        var rows = rows(grid.width(), grid.height(), random);
+
+        for (int c = 0; rows.hasNext(); ) {
+            var row = rows.next();
+
+            for (int x = 0; x < grid.width(); x++, c++) {
+                if (visitor != null) {
+                    visitor.onStep();
+                    visitor.onVisit(c);
+                }
+
+                if (Rows.isOpen(row, x, Maze.RIGHT)) carve(grid, visitor, c, Maze.RIGHT);
+                if (Rows.isOpen(row, x, Maze.DOWN)) carve(grid, visitor, c, Maze.DOWN);
+            }
+        }
+    }
+
+    private static void general(Topology grid, RandomGenerator random, Visitor visitor) {
+        int width = grid.width(), height = grid.height();
+        var sets = new DisjointSet(grid.size(), grid.storage());
+        var down = grid.storage().ints(grid.size()); // row + 1 once a set has a passage into the next row, by root
+        int carved = 0;
+
+        for (int y = 0; y < height; y++) {
+            boolean last = y + 1 == height;
+            int from = y * width, to = from + width;
+
+            for (int c = from; c < to; c++) {
+                if (!grid.contains(c)) continue;
+
+                if (visitor != null) {
+                    visitor.onStep();
+                    visitor.onVisit(c);
+                }
+
+                int m = grid.neighbour(c, Topology.RIGHT);
+                if (m >= 0 && (last || random.nextBoolean()) && sets.union(c, m)) {
+                    carve(grid, visitor, c, Topology.RIGHT);
+                    carved++;
+                }
+            }
+            if (last) break;
+
+            for (int pass = 0; pass < 2; pass++) { // random drops, then one for each set still without any
+                for (int c = from; c < to; c++) {
+                    if (!grid.contains(c)) continue;
+
+                    for (int d = 1; d < grid.degree(); d += 2) {
+                        int m = grid.neighbour(c, d);
+                        if (d == Topology.RIGHT || m < to) continue; // not into the next row
+                        if (pass == 0 ? !random.nextBoolean() : down.get(sets.find(c)) == y + 1) continue;
+
+                        if (sets.union(c, m)) {
+                            down.set(sets.find(c), y + 1);
+                            carve(grid, visitor, c, d);
+                            carved++;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (carved != grid.cells() - 1) Kruskal.complete(grid, random, visitor, sets);
+    }
+
+    private static void carve(Topology grid, Visitor visitor, int c, int dir) {
+        if (visitor != null) visitor.onCarve(c, dir);
+        grid.carve(c, dir);
+    }
+
+    public static Rows rows(int width, long height, RandomGenerator random) {
+        return new Rows(width, height, random);
+    }
+
+    /**
+     * Iterates rows in the same two-bits-per-cell layout {@link Maze} uses. The array returned by {@link #next}
+     * is reused for the following row.
+     * <p>
+     * Each set in the current row is a circular list through {@code left}/{@code right} in column order.
+     * Sets in a row never interleave because the maze above them is planar, so {@code x} and {@code x + 1}
+     * share a set exactly when {@code right[x] == x + 1}.
+     */
+    public static final class Rows implements Iterator<long[]> {
+        private final int width;
+        private final long height;
+        private final RandomGenerator random;
+        private final int[] left, right;
+        private final long[] row;
+        private long y;
+
+        private Rows(int width, long height, RandomGenerator random) {
+            if (width <= 0 || height <= 0)
+                throw new IllegalArgumentException("Unsupported maze size: " + width + "x" + height);
+
+            this.width = width;
+            this.height = height;
+            this.random = random;
+            this.left = new int[width];
+            this.right = new int[width];
+            this.row = new long[(width + 31) >>> 5];
+
+            for (int x = 0; x < width; x++) left[x] = right[x] = x;
+        }
+
+        public int width() {
+            return width;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return y < height;
+        }
+
+        @Override
+        public long[] next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            Arrays.fill(row, 0);
+            boolean last = ++y == height;
+            long bits = 0;
+
+            for (int x = 0; x < width; x++, bits >>>= 2) {
+                if ((x & 31) == 0) bits = random.nextLong();
+
+                if (x + 1 < width && right[x] != x + 1 && (last || (bits & 1) != 0)) {
+                    right[left[x + 1]] = right[x];
+                    left[right[x]] = left[x + 1];
+                    right[x] = x + 1;
+                    left[x + 1] = x;
+
+                    row[x >>> 5] |= 1L << ((x & 31) << 1);
+                }
+
+                if (last) continue;
+                if (left[x] != x && (bits & 2) != 0) { // leave the set; another member still goes down
+                    right[left[x]] = right[x];
+                    left[right[x]] = left[x];
+                    left[x] = right[x] = x;
+                } else {
+                    row[x >>> 5] |= 2L << ((x & 31) << 1);
+                }
+            }
+            return row;
+        }
+
+        /**
+         * Writes every remaining row to {@code channel} as little-endian longs, packed back to back exactly like
+         * {@link Maze} words, and returns the number of bytes written.
+         */
+        public long transferTo(WritableByteChannel channel) {
+            var buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            long acc = 0, written = 0;
+            int accBits = 0;
+
+            try {
+                while (hasNext()) {
+                    var r = next();
+                    for (int i = 0, rem = 2 * width; rem > 0; i++, rem -= 64) {
+                        int bits = Math.min(rem, 64);
+                        long value = r[i]; // bits past the row end are always clear
+
+                        acc |= value << accBits;
+                        if (accBits + bits >= 64) {
+                            if (!buffer.hasRemaining()) written += drain(buffer, channel);
+                            buffer.putLong(acc);
+                            acc = accBits == 0 ? 0 : value >>> (64 - accBits);
+                            accBits += bits - 64;
+                        } else {
+                            accBits += bits;
+                        }
+                    }
+                }
+                if (accBits != 0) {
+                    if (!buffer.hasRemaining()) written += drain(buffer, channel);
+                    buffer.putLong(acc);
+                }
+                return written + drain(buffer, channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static long drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+            buffer.flip();
+            long n = 0;
+            while (buffer.hasRemaining()) n += channel.write(buffer);
+            buffer.clear();
+            return n;
+        }
+
+        public static boolean isOpen(long[] row, int x, int dir) {
+            int offset = switch (dir) {
+                case Maze.RIGHT -> 0;
+                case Maze.DOWN -> 1;
+                default -> throw new IllegalArgumentException("Only RIGHT and DOWN are stored per row: " + dir);
+            };
+            return (row[x >>> 5] & 1L << ((x & 31) << 1 | offset)) != 0;
+        }
+    }
+}
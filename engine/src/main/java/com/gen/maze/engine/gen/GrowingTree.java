@@ -0,0 +1,128 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.Bits;
+import com.gen.maze.engine.data.IntDeque;
+
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Growing tree: a list of active cells, one picked by a {@link Policy} each step to carve into a random
+ * unvisited neighbour, which joins the list, or to retire when it has none. Always picking the newest cell is
+ * {@link Backtracking}, maze for maze; a random one grows like Prim's algorithm, with short dead ends
+ * everywhere, and the oldest one floods outwards in long straight corridors. A weighted mix tunes the texture
+ * in between.
+ */
+public final class GrowingTree implements Generator {
+    private final Policy policy;
+
+    /**
+     * Newest and random cells in equal measure.
+     */
+    public GrowingTree() {
+        this(Policy.weighted(1, 1, 0));
+    }
+
+    public GrowingTree(Policy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Picks the index of the next cell among {@code size} active ones, ordered from the oldest, 0, to the newest.
+     * A retired cell's place is taken by the newest, so only the pure newest and oldest policies see the cells
+     * strictly in the order they were added.
+     */
+    @FunctionalInterface
+    public interface Policy {
+        Policy NEWEST = (size, random) -> size - 1;
+        Policy RANDOM = (size, random) -> random.nextInt(size);
+        Policy OLDEST = (size, random) -> 0;
+
+        int select(int size, RandomGenerator random);
+
+        /**
+         * Newest, random or oldest in proportion to the weights, with no extra draw when only one is positive.
+         */
+        static Policy weighted(int newest, int random, int oldest) {
+            if (newest < 0 || random < 0 || oldest < 0 || newest + random + oldest <= 0)
+                throw new IllegalArgumentException("Weights must be non-negative with a positive sum");
+            if (random == 0 && oldest == 0) return NEWEST;
+            if (newest == 0 && oldest == 0) return RANDOM;
+            if (newest == 0 && random == 0) return OLDEST;
+
+            int total = newest + random + oldest;
+            return (size, r) -> {
+                int w = r.nextInt(total);
+                return w < newest ? size - 1 : w < newest + random ? r.nextInt(size) : 0;
+            };
+        }
+
+        /**
+         * Parses a comma-separated mix such as {@code newest=3,random=1}; a bare name has weight 1.
+         */
+        static Policy parse(String spec) {
+            int newest = 0, random = 0, oldest = 0;
+            for (var part : spec.split(",")) {
+                int eq = part.indexOf('=');
+                var name = (eq < 0 ? part : part.substring(0, eq)).strip().toLowerCase(Locale.ROOT);
+                int weight;
+                try {
+                    weight = eq < 0 ? 1 : Integer.parseInt(part.substring(eq + 1).strip());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Not a weight in growing-tree policy: " + part);
+                }
+
+                switch (name) {
+                    case "newest" -> newest += weight;
+                    case "random" -> random += weight;
+                    case "oldest" -> oldest += weight;
+                    default -> throw new IllegalArgumentException("Unknown growing-tree policy: " + name);
+                }
+            }
+            return weighted(newest, random, oldest);
+        }
+    }
+
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        var visited = Bits.create(grid.storage(), grid.size());
+        var active = new IntDeque(grid.cells(), grid.storage());
+        int degree = grid.degree();
+
+        active.addLast(grid.first());
+        Bits.set(visited, grid.first());
+
+        while (!active.isEmpty()) {
+            int i = policy.select(active.size(), random), curC = active.get(i);
+            int unvisited = 0;
+            for (int dir = 0; dir < degree; dir++) {
+                int c = grid.neighbour(curC, dir);
+                if (c >= 0 && !Bits.get(visited, c)) unvisited |= 1 << dir;
+            }
+
+            if (visitor != null) {
+                visitor.onStep();
+                visitor.onVisit(curC);
+            }
+
+            if (unvisited == 0) {
+                active.remove(i);
+                continue;
+            }
+
+            int dir = Bits.nthSetBit(unvisited, random.nextInt(Integer.bitCount(unvisited)));
+            int newC = grid.neighbour(curC, dir);
+
+            if (visitor != null) visitor.onCarve(curC, dir);
+            grid.carve(curC, dir);
+
+            Bits.set(visited, newC);
+
+            active.addLast(newC);
+            if (visitor != null) visitor.onDepth(active.size());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.DisjointSet;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Edges are numbered {@code cell << shift | dir >>> 1} over each cell's forward (odd) directions, listed with
+ * {@link Topology#RIGHT} first. Square grids have two forward directions and shift by one, so every cell id fits
+ * when the edge is read back unsigned; hex grids have three and shift by two, which limits them to 2^30 cells.
+ */
+public final class Kruskal implements Generator {
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        complete(grid, random, visitor, new DisjointSet(grid.size(), grid.storage()));
+    }
+
+    /**
+     * Carves shuffled edges that join different sets until every enabled cell is in one. Other generators use
+     * this to finish a forest they could not connect themselves.
+     */
+    static void complete(Topology grid, RandomGenerator random, Visitor visitor, DisjointSet sets) {
+        int degree = grid.degree(), shift = degree > 4 ? 2 : 1;
+        if (grid.size() - 1L > 0xFFFFFFFFL >>> shift)
+            throw new IllegalArgumentException("Grid too large for Kruskal: " + grid.width() + "x" + grid.height());
+
+        var edges = grid.storage().ints((int) Math.min(Integer.MAX_VALUE - 8, (long) grid.size() * (degree >>> 1)));
+        int count = 0;
+        boolean depths = visitor != null && visitor.wantsUnionDepth();
+
+        for (int c = 0; c < grid.size(); c++) {
+            if (visitor != null) visitor.onStep(); // listing every edge takes as long as the shuffle
+            if (!grid.contains(c)) continue;
+
+            if (count > edges.length() - (degree >>> 1))
+                throw new IllegalArgumentException("Too many edges for Kruskal: " + grid.width() + "x" + grid.height());
+
+            if (grid.neighbour(c, Topology.RIGHT) >= 0) edges.set(count++, c << shift | Topology.RIGHT >>> 1);
+            for (int d = 1; d < degree; d += 2) {
+                if (d != Topology.RIGHT && grid.neighbour(c, d) >= 0) edges.set(count++, c << shift | d >>> 1);
+            }
+        }
+
+        for (int i = count - 1; i > 0; i--) { // Fisher-Yates
+            if (visitor != null) visitor.onStep();
+
+            int j = random.nextInt(i + 1);
+            int t = edges.get(i);
+            edges.set(i, edges.get(j));
+            edges.set(j, t);
+        }
+
+        for (int i = 0; i < count; i++) {
+            int e = edges.get(i), c1 = e >>> shift, dir = (e & (1 << shift) - 1) << 1 | 1;
+            int c2 = grid.neighbour(c1, dir);
+
+            int depthA = 0, depthB = 0; // measured before the union shortens them
+            if (visitor != null) {
+                visitor.onStep();
+                visitor.onFinds(2);
+            }
+            if (depths) {
+                depthA = sets.depth(c1);
+                depthB = sets.depth(c2);
+            }
+            if (sets.union(c1, c2)) {
+                if (visitor != null) {
+                    visitor.onUnion(depthA, depthB);
+                    visitor.onCarve(c1, dir);
+                }
+                grid.carve(c1, dir);
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Grid;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.DisjointSet;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Splits the grid into {@code tileSize} square tiles, carves each one independently on a {@link ForkJoinPool},
+ * then joins the tiles with a random spanning tree of the tile graph: one passage per chosen tile border,
+ * picked Kruskal-style. Every tile is a perfect maze, so the result is one too.
+ * <p>
+ * Tile seeds are drawn up front from {@code random}, so the maze does not depend on scheduling, and each tile
+ * carves with {@code tileRandom} applied to its seed. Visitor callbacks arrive from pool threads, so an off-heap
+ * maze must live in a shared arena. Other topologies are handed to {@code tile} as a whole.
+ */
+public final class ParallelTiles implements Generator {
+    private final Generator tile;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+    private final LongFunction<? extends RandomGenerator> tileRandom;
+
+    public ParallelTiles(Generator tile, int tileSize) {
+        this(tile, tileSize, ForkJoinPool.commonPool());
+    }
+
+    public ParallelTiles(Generator tile, int tileSize, ForkJoinPool pool) {
+        this(tile, tileSize, pool, SplittableRandom::new);
+    }
+
+    /**
+     * @param tileRandom creates a tile's random generator from its seed, such as {@code RandomSource::create};
+     *                   called from pool threads
+     */
+    public ParallelTiles(Generator tile, int tileSize, ForkJoinPool pool, LongFunction<? extends RandomGenerator> tileRandom) {
+        if (tileSize <= 0) throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+
+        this.tile = tile;
+        this.tileSize = tileSize;
+        this.pool = pool;
+        this.tileRandom = tileRandom;
+    }
+
+    @Override
+    public void generate(Topology topology, RandomGenerator random, Visitor visitor) {
+        if (!(topology instanceof Grid grid)) { // tiles and stitching are square-only
+            tile.generate(topology, random, visitor);
+            return;
+        }
+
+        int cols = (grid.width() + tileSize - 1) / tileSize;
+        int rows = (grid.height() + tileSize - 1) / tileSize;
+        var seeds = new long[cols * rows];
+        for (int t = 0; t < seeds.length; t++) seeds[t] = random.nextLong();
+
+        var shared = grid.atomic();
+        pool.invoke(new Tiles(shared, visitor, seeds, cols, 0, seeds.length));
+
+        stitch(grid, random, visitor, cols, rows);
+    }
+
+    private void stitch(Grid grid, RandomGenerator random, Visitor visitor, int cols, int rows) {
+        var edges = new int[(cols - 1) * rows + cols * (rows - 1)];
+        var sets = new DisjointSet(cols * rows);
+
+        for (int t = 0, e = 0; t < cols * rows; t++) {
+            if (t % cols + 1 < cols) edges[e++] = t << 1;
+            if (t / cols + 1 < rows) edges[e++] = t << 1 | 1;
+        }
+
+        for (int i = edges.length - 1; i > 0; i--) { // Fisher-Yates
+            if (visitor != null) visitor.onStep();
+
+            int j = random.nextInt(i + 1);
+            int t = edges[i];
+            edges[i] = edges[j];
+            edges[j] = t;
+        }
+
+        boolean depths = visitor != null && visitor.wantsUnionDepth();
+        for (int e : edges) {
+            int t = e >>> 1;
+            boolean down = (e & 1) != 0;
+            int t2 = down ? t + cols : t + 1;
+
+            int depthA = 0, depthB = 0; // measured before the union shortens them
+            if (visitor != null) {
+                visitor.onStep();
+                visitor.onFinds(2);
+            }
+            if (depths) {
+                depthA = sets.depth(t);
+                depthB = sets.depth(t2);
+            }
+            if (!sets.union(t, t2)) continue;
+            if (visitor != null) visitor.onUnion(depthA, depthB);
+
+            int x0 = t % cols * tileSize, y0 = t / cols * tileSize;
+            int x, y, dir;
+            if (down) {
+                x = x0 + random.nextInt(Math.min(tileSize, grid.width() - x0));
+                y = y0 + tileSize - 1;
+                dir = Maze.DOWN;
+            } else {
+                x = x0 + tileSize - 1;
+                y = y0 + random.nextInt(Math.min(tileSize, grid.height() - y0));
+                dir = Maze.RIGHT;
+            }
+
+            int c = y * grid.width() + x;
+            if (visitor != null) visitor.onCarve(c, dir);
+            grid.carve(c, dir);
+        }
+    }
+
+    private final class Tiles extends RecursiveAction {
+        private final Grid grid;
+        private final Visitor visitor;
+        private final long[] seeds;
+        private final int cols, from, to;
+
+        Tiles(Grid grid, Visitor visitor, long[] seeds, int cols, int from, int to) {
+            this.grid = grid;
+            this.visitor = visitor;
+            this.seeds = seeds;
+            this.cols = cols;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Tiles(grid, visitor, seeds, cols, from, mid), new Tiles(grid, visitor, seeds, cols, mid, to));
+                return;
+            }
+
+            int x0 = from % cols * tileSize, y0 = from / cols * tileSize;
+            var region = grid.region(x0, y0, Math.min(tileSize, grid.width() - x0), Math.min(tileSize, grid.height() - y0));
+
+            // off-heap tile scratch is freed as soon as the tile is done
+            grid.storage().scoped(scratch -> carve(region.scratch(scratch), x0, y0));
+        }
+
+        private void carve(Grid region, int x0, int y0) {
+            tile.generate(region, tileRandom.apply(seeds[from]), visitor == null ? null : new Visitor() {
+                @Override
+                public void onVisit(int cell) {
+                    visitor.onVisit(toGrid(cell));
+                }
+
+                @Override
+                public void onCarve(int cell, int dir) {
+                    visitor.onCarve(toGrid(cell), dir);
+                }
+
+                @Override
+                public void onStep() {
+                    visitor.onStep();
+                }
+
+                @Override
+                public void onDepth(int depth) {
+                    visitor.onDepth(depth);
+                }
+
+                @Override
+                public void onFinds(int count) {
+                    visitor.onFinds(count);
+                }
+
+                @Override
+                public void onUnion(int depthA, int depthB) {
+                    visitor.onUnion(depthA, depthB);
+                }
+
+                @Override
+                public boolean wantsUnionDepth() {
+                    return visitor.wantsUnionDepth();
+                }
+
+                private int toGrid(int cell) {
+                    return (y0 + cell / region.width()) * grid.width() + x0 + cell % region.width();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Grid;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.Bits;
+import com.gen.maze.engine.data.DisjointSet;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Sidewinder: each row is cut into runs of cells joined to the right, and every run carves one passage down
+ * from a random cell in it. The last row is a single run with no way down. Like {@link BinaryTree}, the
+ * continue-or-close choice is one bit of a random {@code long} per cell, so a whole square maze without a
+ * visitor is written a word at a time; closing a run draws once more, for the cell that carves down. On other
+ * topologies a run closes through any forward direction into the next row, and pieces a mask cuts off are
+ * joined with {@link Kruskal#complete}.
+ */
+public final class Sidewinder implements Generator {
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        if (!(grid instanceof Grid square)) general(grid, random, visitor);
+        else if (visitor == null && BinaryTree.isWhole(square)) words(square.maze(), random);
+        else square(square, random, visitor);
+    }
+
+    private static void words(Maze maze, RandomGenerator random) {
+        var words = maze.words();
+        int width = maze.width(), size = maze.size(), count = Maze.wordCount(width, maze.height());
+        int lastRow = size - width, edge = width - 1, start = 0; // next last-column cell, start of the open run
+
+        long bits = 0;
+        for (int i = 0; i < count; i++) {
+            if ((i & 1) == 0) bits = random.nextLong();
+
+            int base = i << 5;
+            long right = Bits.spread((int) (bits >>> ((i & 1) << 5)));
+            for (; edge < base + 32; edge += width) right &= ~(1L << ((edge - base) << 1));
+            if (base + 32 > lastRow) right |= Maze.RIGHT_BITS & -1L << (Math.max(0, lastRow - base) << 1);
+            if (base + 32 > size - 1) right &= cells(size - 1 - base);
+
+            long down = 0;
+            for (long ends = ~right & Maze.RIGHT_BITS & cells(lastRow - base); ends != 0; ends &= ends - 1) {
+                int end = base + (Long.numberOfTrailingZeros(ends) >>> 1);
+                int c = start + below(random, end - start + 1); // even for one cell: a draw beats a mispredicted branch
+
+                if (c >= base) down |= 2L << ((c - base) << 1);
+                else words.or(c >>> 5, 2L << ((c & 31) << 1)); // the run began in an earlier word
+                start = end + 1;
+            }
+            words.set(i, right | down);
+        }
+    }
+
+    /**
+     * Both bits of the first {@code n} cells of a word, clamped to [0, 32].
+     */
+    private static long cells(int n) {
+        return n <= 0 ? 0 : n >= 32 ? -1L : (1L << (n << 1)) - 1;
+    }
+
+    /**
+     * Uniform in [0, bound) by Lemire's multiply-shift, which only divides when a draw may have to be rejected.
+     * {@link RandomGenerator#nextInt(int)} divides every time, and run lengths are drawn for half the cells.
+     */
+    private static int below(RandomGenerator random, int bound) {
+        long m = (random.nextInt() & 0xFFFFFFFFL) * bound;
+        if (Integer.compareUnsigned((int) m, bound) < 0) {
+            int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned((int) m, threshold) < 0) m = (random.nextInt() & 0xFFFFFFFFL) * bound;
+        }
+        return (int) (m >>> 32);
+    }
+
+    private static void square(Grid grid, RandomGenerator random, Visitor visitor) {
+        int width = grid.width(), height = grid.height();
+
+        long bits = 0;
+        for (int y = 0, c = 0, start = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, c++) {
+                if ((c & 63) == 0) bits = random.nextLong();
+
+                if (visitor != null) {
+                    visitor.onStep();
+                    visitor.onVisit(c);
+                }
+
+                if (y + 1 == height) {
+                    if (x + 1 < width) carve(grid, visitor, c, Maze.RIGHT);
+                } else if (x + 1 < width && (bits >>> c & 1) != 0) {
+                    carve(grid, visitor, c, Maze.RIGHT);
+                } else {
+                    carve(grid, visitor, start + below(random, c - start + 1), Maze.DOWN);
+                    start = c + 1;
+                }
+            }
+        }
+    }
+
+    private static void general(Topology grid, RandomGenerator random, Visitor visitor) {
+        int width = grid.width(), height = grid.height();
+        var sets = new DisjointSet(grid.size(), grid.storage());
+        var exits = new int[width * (grid.degree() >>> 1)]; // cell << 3 | dir into the next row, for the open run
+        int carved = 0;
+
+        for (int y = 0; y < height; y++) {
+            int n = 0;
+            for (int c = y * width, end = c + width; c < end; c++) {
+                if (!grid.contains(c)) continue;
+
+                if (visitor != null) {
+                    visitor.onStep();
+                    visitor.onVisit(c);
+                }
+
+                for (int d = 1; d < grid.degree(); d += 2) {
+                    if (d != Topology.RIGHT && grid.neighbour(c, d) >= end) exits[n++] = c << 3 | d;
+                }
+
+                int m = grid.neighbour(c, Topology.RIGHT);
+                if (m > c && (n == 0 || random.nextBoolean())) { // not wrapped, and never closing a run with no exit
+                    sets.union(c, m);
+                    carve(grid, visitor, c, Topology.RIGHT);
+                    carved++;
+                    continue;
+                }
+
+                if (n > 0) {
+                    int e = exits[n == 1 ? 0 : random.nextInt(n)];
+                    sets.union(e >>> 3, grid.neighbour(e >>> 3, e & 7));
+                    carve(grid, visitor, e >>> 3, e & 7);
+                    carved++;
+                }
+                n = 0;
+            }
+        }
+
+        if (carved != grid.cells() - 1) Kruskal.complete(grid, random, visitor, sets);
+    }
+
+    private static void carve(Topology grid, Visitor visitor, int c, int dir) {
+        if (visitor != null) visitor.onCarve(c, dir);
+        grid.carve(c, dir);
+    }
+}
@@ -0,0 +1,77 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Topology;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.data.Bits;
+import com.gen.maze.engine.data.Words;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Loop-erased random walks into a growing tree. Each cell remembers only the last direction it left by,
+ * so erasing a loop is implicit: retracing the walk from its start follows the loop-free path.
+ */
+public final class Wilson implements Generator {
+    @Override
+    public void generate(Topology grid, RandomGenerator random, Visitor visitor) {
+        var inTree = Bits.create(grid.storage(), grid.size());
+        Bits.set(inTree, randomCell(grid, random));
+
+        complete(grid, random, visitor, inTree);
+    }
+
+    static int randomCell(Topology grid, RandomGenerator random) {
+        int c;
+        do {
+            c = random.nextInt(grid.size());
+        } while (!grid.contains(c));
+        return c;
+    }
+
+    static void complete(Topology grid, RandomGenerator random, Visitor visitor, Words inTree) {
+        var exit = grid.storage().words((grid.size() + 15) >>> 4); // direction each walked cell was last left by
+        int degree = grid.degree();
+
+        for (int start = 0; start < grid.size(); start++) {
+            if (Bits.get(inTree, start) || !grid.contains(start)) continue;
+
+            int c = start;
+            while (!Bits.get(inTree, c)) {
+                int dir, next;
+                do {
+                    if (visitor != null) visitor.onStep();
+
+                    dir = random.nextInt(degree);
+                    next = grid.neighbour(c, dir);
+                } while (next < 0);
+
+                exit(exit, c, dir);
+                c = next;
+            }
+
+            c = start;
+            while (!Bits.get(inTree, c)) {
+                int dir = exit(exit, c);
+
+                if (visitor != null) {
+                    visitor.onVisit(c);
+                    visitor.onCarve(c, dir);
+                }
+                grid.carve(c, dir);
+
+                Bits.set(inTree, c);
+                c = grid.neighbour(c, dir);
+            }
+        }
+    }
+
+    private static int exit(Words exit, int c) { // four bits per cell
+        return (int) (exit.get(c >>> 4) >>> ((c & 15) << 2)) & 15;
+    }
+
+    private static void exit(Words exit, int c, int dir) {
+        int i = c >>> 4, shift = (c & 15) << 2;
+        exit.set(i, exit.get(i) & ~(15L << shift) | (long) dir << shift);
+    }
+}
@@ -0,0 +1,182 @@
+package com.gen.maze.engine.io;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.TorusGrid;
+import com.gen.maze.engine.data.Words;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * A maze on disk: a 64-byte little-endian header followed by the maze's words exactly as {@link Maze} holds them.
+ * <pre>
+ *  0  int    magic "MAZE"
+ *  4  short  version
+ *  6  byte   random source ordinal, -1 if unknown
+ *  7  byte   algorithm name length
+ *  8  int    width
+ * 12  int    height
+ * 16  long   seed
+ * 24  byte[] algorithm name, US-ASCII, up to 32 bytes
+ * 56  byte   topology: 0 square, 1 torus that {@link Maze#wraps wraps}
+ * 57  byte[] reserved
+ * 64  long[] walls
+ * </pre>
+ * A writable file records the topology of its maze when it is closed, so a {@link TorusGrid} built over a
+ * created file is a torus again when it is opened.
+ * Opening a file maps it, so the returned maze reads straight from the page cache and touching one cell
+ * only faults in the page that holds it. Generators carving into a mapped maze keep their scratch state on the
+ * heap; to keep it off the heap too, generate on {@code new Grid(file.maze()).scratch(OffHeap.storage(arena))},
+ * which needs {@code --enable-preview}.
+ */
+public final class MazeFile implements AutoCloseable {
+    public static final int HEADER_BYTES = 64;
+
+    private static final int MAGIC = 0x455A414D; // "MAZE" read little-endian
+    private static final short VERSION = 1;
+    private static final int MAX_NAME = 32;
+    private static final int TOPOLOGY = 56;
+
+    private final FileChannel channel;
+    private final MazeSpec spec;
+    private final Maze maze;
+    private final boolean writable;
+
+    private MazeFile(FileChannel channel, MazeSpec spec, Maze maze, boolean writable) {
+        this.channel = channel;
+        this.spec = spec;
+        this.maze = maze;
+        this.writable = writable;
+    }
+
+    public MazeSpec spec() {
+        return spec;
+    }
+
+    /**
+     * The mapped maze. It stays valid after {@link #close}; the mapping is released once it is unreachable.
+     */
+    public Maze maze() {
+        return maze;
+    }
+
+    public static MazeFile open(Path path) throws IOException {
+        return open(path, false);
+    }
+
+    public static MazeFile open(Path path, boolean writable) throws IOException {
+        var channel = writable ? FileChannel.open(path, READ, WRITE) : FileChannel.open(path, READ);
+        try {
+            var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) throw new IOException("Not a maze file: " + path);
+            }
+
+            var spec = readHeader(header);
+            long payload = (long) Maze.wordCount(spec.width(), spec.height()) << 3;
+            if (channel.size() < HEADER_BYTES + payload) throw new IOException("Truncated maze file: " + path);
+
+            var words = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, HEADER_BYTES, payload);
+            var maze = new Maze(spec.width(), spec.height(), Words.of(words));
+            int topology = header.get(TOPOLOGY);
+            if (topology == 1) new TorusGrid(maze); // marks the maze as wrapping
+            else if (topology != 0) throw new IOException("Unknown topology: " + topology);
+            return new MazeFile(channel, spec, maze, writable);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a file for {@code spec} with every wall in place and maps it for writing, so a generator can carve
+     * straight into it.
+     */
+    public static MazeFile create(Path path, MazeSpec spec) throws IOException {
+        var channel = FileChannel.open(path, CREATE, TRUNCATE_EXISTING, READ, WRITE);
+        try {
+            writeHeader(channel, spec);
+
+            long payload = (long) Maze.wordCount(spec.width(), spec.height()) << 3;
+            MappedByteBuffer words = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES, payload);
+            return new MazeFile(channel, spec, new Maze(spec.width(), spec.height(), Words.of(words)), true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static void write(Path path, MazeSpec spec, Maze maze) throws IOException {
+        try (var file = create(path, spec)) {
+            maze.copyTo(file.maze());
+        }
+    }
+
+    /**
+     * {@code algorithm} for use in a file name: anything but letters, digits, {@code '-'} and {@code '.'}, such as
+     * the {@code ':'}, {@code '='} and {@code ','} of generator options, becomes {@code '_'}. Distinct names may
+     * collide, so a reader should check the {@link #spec} in the header.
+     */
+    public static String fileName(String algorithm) {
+        var name = new StringBuilder(algorithm.length());
+        for (int i = 0; i < algorithm.length(); i++) {
+            char ch = algorithm.charAt(i);
+            boolean safe = ch < 128 && (Character.isLetterOrDigit(ch) || ch == '-' || ch == '.');
+            name.append(safe ? ch : '_');
+        }
+        return name.toString();
+    }
+
+    /**
+     * Writes only the header, for producers that stream the walls themselves.
+     */
+    public static void writeHeader(WritableByteChannel channel, MazeSpec spec) throws IOException {
+        var name = spec.algorithm().getBytes(StandardCharsets.US_ASCII);
+        if (name.length > MAX_NAME) throw new IllegalArgumentException("Algorithm name too long: " + spec.algorithm());
+
+        var header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .put(spec.source() == null ? -1 : (byte) spec.source().ordinal())
+                .put((byte) name.length)
+                .putInt(spec.width())
+                .putInt(spec.height())
+                .putLong(spec.seed())
+                .put(name)
+                .position(HEADER_BYTES)
+                .flip();
+
+        while (header.hasRemaining()) channel.write(header);
+    }
+
+    private static MazeSpec readHeader(ByteBuffer header) throws IOException {
+        if (header.getInt(0) != MAGIC) throw new IOException("Not a maze file");
+        if (header.getShort(4) != VERSION) throw new IOException("Unsupported maze file version: " + header.getShort(4));
+
+        int source = header.get(6), nameLength = header.get(7);
+        if (nameLength < 0 || nameLength > MAX_NAME) throw new IOException("Corrupt algorithm name length: " + nameLength);
+
+        var name = new byte[nameLength];
+        header.get(24, name);
+
+        return new MazeSpec(new String(name, StandardCharsets.US_ASCII), header.getInt(8), header.getInt(12),
+                header.getLong(16), source < 0 ? null : RandomSource.values()[source]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            if (writable) channel.write(ByteBuffer.wrap(new byte[]{(byte) (maze.wraps() ? 1 : 0)}), TOPOLOGY);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.gen.maze.engine.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+/**
+ * Forwards to another generator, counting one draw per value returned. Every method the generators call is
+ * overridden so that the delegate's own, possibly faster, implementations are kept.
+ */
+final class CountingRandom implements RandomGenerator {
+    private final RandomGenerator random;
+    private final LongAdder draws;
+
+    CountingRandom(RandomGenerator random, LongAdder draws) {
+        this.random = random;
+        this.draws = draws;
+    }
+
+    @Override
+    public long nextLong() {
+        draws.increment();
+        return random.nextLong();
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        draws.increment();
+        return random.nextLong(bound);
+    }
+
+    @Override
+    public int nextInt() {
+        draws.increment();
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        draws.increment();
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        draws.increment();
+        return random.nextInt(origin, bound);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        draws.increment();
+        return random.nextBoolean();
+    }
+
+    @Override
+    public double nextDouble() {
+        draws.increment();
+        return random.nextDouble();
+    }
+}
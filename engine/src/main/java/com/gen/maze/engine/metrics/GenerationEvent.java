@@ -0,0 +1,54 @@
+package com.gen.maze.engine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One {@link Metrics#generate} run, for {@code -XX:StartFlightRecording} or JDK Mission Control.
+ */
+@Name("com.gen.maze.Generation")
+@Label("Maze Generation")
+@Category("Maze")
+@Description("A maze generated with metrics enabled")
+public final class GenerationEvent extends Event {
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+
+    @Label("Seed")
+    long seed;
+
+    @Label("Steps")
+    long steps;
+
+    @Label("Cells Carved")
+    long carves;
+
+    @Label("Random Draws")
+    long randomDraws;
+
+    @Label("Max Stack Depth")
+    long maxDepth;
+
+    @Label("Finds")
+    long finds;
+
+    @Label("Unions")
+    long unions;
+
+    @Label("Max Find Depth")
+    long maxFindDepth;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,176 @@
+package com.gen.maze.engine.metrics;
+
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.Visitor;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+/**
+ * Counts what a generator does through its visitor callbacks, optionally forwarding them to another visitor.
+ * Nothing is counted unless a run is handed a {@code Metrics}; generators without a visitor skip every callback.
+ * Counters are safe to update from the pool threads of parallel generators.
+ * <pre>
+ * var metrics = new Metrics();
+ * var maze = metrics.generate(spec);
+ * var snapshot = metrics.snapshot();
+ * </pre>
+ * {@link #generate} also records wall time and the bytes allocated by the calling thread, and emits a
+ * {@link GenerationEvent} to a running flight recording.
+ */
+public final class Metrics implements Visitor {
+    public record Snapshot(long steps, long visits, long carves, long randomDraws, long maxDepth, long finds,
+                           long unions, long findDepthTotal, long maxFindDepth, long nanos, long allocatedBytes) {
+        /**
+         * Steps that carved nothing, such as an Aldous-Broder walk crossing visited cells.
+         */
+        public long idleSteps() {
+            return Math.max(0, steps - carves);
+        }
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t
+                    && t.isThreadAllocatedMemorySupported() ? t : null;
+
+    private final Visitor delegate;
+    private final LongAdder steps = new LongAdder(), visits = new LongAdder(), carves = new LongAdder();
+    private final LongAdder draws = new LongAdder(), finds = new LongAdder(), unions = new LongAdder();
+    private final LongAdder findDepth = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxFindDepth = new LongAccumulator(Math::max, 0);
+    private volatile long nanos, allocated = -1;
+
+    public Metrics() {
+        this(null);
+    }
+
+    public Metrics(Visitor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Generates {@code spec} with fresh counters, timing the run. Random draws are counted for the maze and for
+     * every tile of {@code parallel-} algorithms.
+     */
+    public Maze generate(MazeSpec spec) {
+        reset();
+
+        var maze = new Maze(spec.width(), spec.height());
+        var generator = Generators.byName(spec.algorithm(), seed -> count(spec.source().create(seed)));
+        var random = count(spec.source().create(spec.seed()));
+        var event = new GenerationEvent();
+
+        event.begin();
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+
+        generator.generate(maze, random, this);
+
+        nanos = System.nanoTime() - start;
+        allocated = bytes < 0 ? -1 : allocatedBytes() - bytes;
+        event.end();
+
+        if (event.shouldCommit()) {
+            var s = snapshot();
+            event.algorithm = spec.algorithm();
+            event.width = spec.width();
+            event.height = spec.height();
+            event.seed = spec.seed();
+            event.steps = s.steps();
+            event.carves = s.carves();
+            event.randomDraws = s.randomDraws();
+            event.maxDepth = s.maxDepth();
+            event.finds = s.finds();
+            event.unions = s.unions();
+            event.maxFindDepth = s.maxFindDepth();
+            event.allocatedBytes = s.allocatedBytes();
+            event.commit();
+        }
+        return maze;
+    }
+
+    /**
+     * Wraps {@code random} so that every value drawn from it is counted.
+     */
+    public RandomGenerator count(RandomGenerator random) {
+        return new CountingRandom(random, draws);
+    }
+
+    /**
+     * {@code nanos} and {@code allocatedBytes} are those of the last {@link #generate}; allocated bytes are -1
+     * when the JVM cannot measure them.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(steps.sum(), visits.sum(), carves.sum(), draws.sum(), maxDepth.get(), finds.sum(),
+                unions.sum(), findDepth.sum(), maxFindDepth.get(), nanos, allocated);
+    }
+
+    public void reset() {
+        steps.reset();
+        visits.reset();
+        carves.reset();
+        draws.reset();
+        finds.reset();
+        unions.reset();
+        findDepth.reset();
+        maxDepth.reset();
+        maxFindDepth.reset();
+        nanos = 0;
+        allocated = -1;
+    }
+
+    @Override
+    public void onVisit(int cell) {
+        visits.increment();
+        if (delegate != null) delegate.onVisit(cell);
+    }
+
+    @Override
+    public void onCarve(int cell, int dir) {
+        carves.increment();
+        if (delegate != null) delegate.onCarve(cell, dir);
+    }
+
+    @Override
+    public void onStep() {
+        steps.increment();
+        if (delegate != null) delegate.onStep();
+    }
+
+    @Override
+    public void onDepth(int depth) {
+        maxDepth.accumulate(depth);
+        if (delegate != null) delegate.onDepth(depth);
+    }
+
+    @Override
+    public void onFinds(int count) {
+        finds.add(count);
+        if (delegate != null) delegate.onFinds(count);
+    }
+
+    @Override
+    public void onUnion(int depthA, int depthB) {
+        unions.increment();
+        findDepth.add(depthA + depthB);
+        maxFindDepth.accumulate(Math.max(depthA, depthB));
+        if (delegate != null) delegate.onUnion(depthA, depthB);
+    }
+
+    /**
+     * Always, to fill {@link Snapshot#findDepthTotal} and {@link Snapshot#maxFindDepth}.
+     */
+    @Override
+    public boolean wantsUnionDepth() {
+        return true;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null && THREADS.isThreadAllocatedMemoryEnabled() ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+}
@@ -0,0 +1,190 @@
+package com.gen.maze.engine.metrics;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.solve.DistanceField;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * What a maze looks like to someone walking it, for choosing algorithms by feel. Everything except the diameter
+ * comes from one row-major scan of the wall bits, split into row bands that are scanned in parallel and merged.
+ * <p>
+ * {@code degrees[d]} counts cells with {@code d} open sides: 1 is a dead end, 2 a corridor, 3 and 4 junctions.
+ * {@code straightRuns[k]} counts maximal straight passages, horizontal or vertical, of {@code 2^k} to
+ * {@code 2^(k+1) - 1} steps. {@code diameter} is the longest shortest path, found with two breadth-first
+ * searches; it is exact for perfect mazes and, for a maze with cycles, a lower bound. Mazes that
+ * {@link Maze#wraps wrap} are rejected.
+ */
+public record Texture(long[] degrees, long straightCorridors, long[] straightRuns, int diameter) {
+    /**
+     * Cells with exactly one open side.
+     */
+    public long deadEnds() {
+        return degrees[1];
+    }
+
+    /**
+     * Cells with exactly two open sides, straight or turning.
+     */
+    public long corridors() {
+        return degrees[2];
+    }
+
+    public long junctions() {
+        return degrees[3] + degrees[4];
+    }
+
+    /**
+     * Average corridor cells between two dead ends or junctions: low for a maze of many short dead ends, high for
+     * one of long winding passages. In a perfect maze the dead ends and junctions are joined by exactly one
+     * passage fewer than there are of them.
+     */
+    public double riverFactor() {
+        long passages = deadEnds() + junctions() - 1;
+        return passages > 0 ? (double) corridors() / passages : 0;
+    }
+
+    public static Texture of(Maze maze) {
+        return of(maze, ForkJoinPool.commonPool());
+    }
+
+    public static Texture of(Maze maze, ForkJoinPool pool) {
+        maze.requireSquare();
+        int height = maze.height();
+        int bands = Math.min(height, pool.getParallelism() * 4), rows = (height + bands - 1) / bands;
+
+        List<Band> scanned = pool.submit(() -> IntStream.range(0, (height + rows - 1) / rows).parallel()
+                .mapToObj(b -> new Band(maze, b * rows, Math.min(height, (b + 1) * rows)))
+                .toList()).join();
+
+        var degrees = new long[5];
+        var runs = new long[32];
+        long straight = 0;
+        var carry = new int[maze.width()]; // vertical run entering the next band from above, per column
+        for (var band : scanned) {
+            for (int d = 0; d < degrees.length; d++) degrees[d] += band.degrees[d];
+            for (int k = 0; k < runs.length; k++) runs[k] += band.runs[k];
+            straight += band.straight;
+
+            for (int x = 0; x < carry.length; x++) {
+                if (band.head[x] < 0) { // the run crosses the whole band
+                    carry[x] += band.tail[x];
+                    continue;
+                }
+                record(runs, carry[x] + band.head[x]);
+                carry[x] = band.tail[x];
+            }
+        }
+
+        long far = farthest(maze, 0), diameter = far < 0 ? -1 : farthest(maze, (int) far);
+        if (diameter < 0) { // not a tree
+            var field = DistanceField.of(maze, DistanceField.of(maze, 0).farthest());
+            return new Texture(degrees, straight, runs, field.distance(field.farthest()));
+        }
+        return new Texture(degrees, straight, runs, (int) (diameter >>> 32));
+    }
+
+    /**
+     * Breadth-first walk of a perfect maze from {@code root}, returning the depth of the last cell reached in
+     * the high half and the cell in the low half, or -1 on a cycle. Remembering the way back to each cell's
+     * parent instead of a distance per cell keeps every access sequential except the wall bits, which are
+     * small enough to stay in cache.
+     */
+    private static long farthest(Maze maze, int root) {
+        int size = maze.size(), width = maze.width();
+        var queue = new int[size];
+        var back = new byte[size];
+
+        int head = 0, tail = 1, end = 1, depth = 0, last = root;
+        queue[0] = root;
+        back[0] = -1;
+        while (head < tail) {
+            if (head == end) {
+                depth++;
+                end = tail;
+            }
+            int c = last = queue[head], from = back[head++];
+            for (int d = 0; d < 4; d++) {
+                if (d == from || !maze.isOpen(c, d)) continue;
+
+                int m = switch (d) {
+                    case Maze.UP -> c - width;
+                    case Maze.DOWN -> c + width;
+                    case Maze.LEFT -> c - 1;
+                    default -> c + 1;
+                };
+                if (tail == size) return -1;
+                queue[tail] = m;
+                back[tail++] = (byte) (d ^ 1);
+            }
+        }
+        return (long) depth << 32 | last;
+    }
+
+    private static void record(long[] runs, int length) {
+        if (length > 0) runs[31 - Integer.numberOfLeadingZeros(length)]++;
+    }
+
+    @Override
+    public String toString() {
+        return "Texture[degrees=" + Arrays.toString(degrees) + ", straightCorridors=" + straightCorridors
+                + ", straightRuns=" + Arrays.toString(straightRuns) + ", diameter=" + diameter + "]";
+    }
+
+    /**
+     * One band of rows. Horizontal runs end within their row; vertical runs touching the band's first or last
+     * row are left in {@link #head} and {@link #tail} for the merge, with {@code head = -1} for a run through
+     * every row of the band.
+     */
+    private static final class Band {
+        final long[] degrees = new long[5], runs = new long[32];
+        final int[] head, tail;
+        long straight;
+
+        Band(Maze maze, int y0, int y1) {
+            var words = maze.words();
+            int width = maze.width();
+            head = new int[width];
+            tail = new int[width];
+            var run = tail; // open vertical run per column, left behind as the tail
+            var top = new boolean[width]; // that run began at y0
+
+            for (int y = y0; y < y1; y++) {
+                boolean left = false;
+                int across = 0;
+                for (int x = 0, c = y * width; x < width; x++, c++) {
+                    int bits = (int) (words.get(c >>> 5) >>> ((c & 31) << 1)); // RIGHT in bit 0, DOWN in bit 1
+                    boolean right = (bits & 1) != 0, down = (bits & 2) != 0;
+                    boolean up = y == y0 ? y > 0 && maze.isOpen(c, Maze.UP) : run[x] > 0;
+
+                    int degree = (left ? 1 : 0) + (right ? 1 : 0) + (up ? 1 : 0) + (down ? 1 : 0);
+                    degrees[degree]++;
+                    if (degree == 2 && (left && right || up && down)) straight++;
+
+                    if (right) across++;
+                    else if (across > 0) {
+                        record(runs, across);
+                        across = 0;
+                    }
+
+                    if (down) {
+                        if (run[x]++ == 0 && y == y0) top[x] = true;
+                    } else if (run[x] > 0) {
+                        if (top[x]) head[x] = run[x];
+                        else record(runs, run[x]);
+                        top[x] = false;
+                        run[x] = 0;
+                    }
+                    left = right;
+                }
+            }
+
+            for (int x = 0; x < width; x++) {
+                if (top[x]) head[x] = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.gen.maze.engine.render;
+
+import com.gen.maze.engine.Maze;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a maze's {@link Raster} block image as text, one character per block: {@code #} for walls, a space for
+ * floor, one line per block row.
+ */
+public final class Ascii {
+    private static final int BUFFER = 1 << 16;
+
+    private Ascii() {
+    }
+
+    public static void write(Maze maze, WritableByteChannel channel) throws IOException {
+        int width = Raster.blocks(maze.width()), height = Raster.blocks(maze.height());
+        var buffer = ByteBuffer.allocate(Math.max(BUFFER, width + 1));
+
+        for (int by = 0; by < height; by++) {
+            if (buffer.remaining() < width + 1) flush(channel, buffer);
+
+            for (int bx = 0; bx < width; bx++) buffer.put(Raster.isWall(maze, bx, by) ? (byte) '#' : (byte) ' ');
+            buffer.put((byte) '\n');
+        }
+        flush(channel, buffer);
+    }
+
+    private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package com.gen.maze.engine.render;
+
+import com.gen.maze.engine.Maze;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes a maze's {@link Raster} block image as a 1-bit greyscale PNG, one pixel per block, walls black. Rows are
+ * deflated as they are produced, so memory stays at one row plus one chunk whatever the maze size.
+ */
+public final class Png {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int CHUNK = 1 << 16;
+
+    private Png() {
+    }
+
+    public static void write(Maze maze, WritableByteChannel channel) throws IOException {
+        int width = Raster.blocks(maze.width()), height = Raster.blocks(maze.height());
+
+        writeFully(channel, ByteBuffer.wrap(SIGNATURE));
+        chunk(channel, "IHDR", ByteBuffer.allocate(13)
+                .putInt(width)
+                .putInt(height)
+                .put((byte) 1) // bit depth
+                .put((byte) 0) // greyscale
+                .put((byte) 0) // deflate
+                .put((byte) 0) // adaptive filtering, every row uses filter 0
+                .put((byte) 0) // not interlaced
+                .flip());
+
+        var row = new byte[1 + (width + 7) / 8];
+        var out = new byte[CHUNK];
+        int filled = 0;
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            for (int by = 0; by < height; by++) {
+                Arrays.fill(row, (byte) 0);
+                for (int bx = 0; bx < width; bx++) {
+                    if (!Raster.isWall(maze, bx, by)) row[1 + (bx >>> 3)] |= (byte) (0x80 >>> (bx & 7));
+                }
+
+                deflater.setInput(row);
+                while (!deflater.needsInput()) filled = drain(channel, deflater, out, filled);
+            }
+
+            deflater.finish();
+            while (!deflater.finished()) filled = drain(channel, deflater, out, filled);
+            if (filled > 0) chunk(channel, "IDAT", ByteBuffer.wrap(out, 0, filled));
+        } finally {
+            deflater.end();
+        }
+
+        chunk(channel, "IEND", ByteBuffer.allocate(0));
+    }
+
+    private static int drain(WritableByteChannel channel, Deflater deflater, byte[] out, int filled) throws IOException {
+        filled += deflater.deflate(out, filled, out.length - filled);
+        if (filled < out.length) return filled;
+
+        chunk(channel, "IDAT", ByteBuffer.wrap(out));
+        return 0;
+    }
+
+    private static void chunk(WritableByteChannel channel, String type, ByteBuffer data) throws IOException {
+        var name = type.getBytes(StandardCharsets.US_ASCII);
+        var crc = new CRC32();
+        crc.update(name);
+        crc.update(data.duplicate());
+
+        writeFully(channel, ByteBuffer.allocate(8).putInt(data.remaining()).put(name).flip());
+        writeFully(channel, data);
+        writeFully(channel, ByteBuffer.allocate(4).putInt((int) crc.getValue()).flip());
+    }
+
+    private static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+}
@@ -0,0 +1,66 @@
+package com.gen.maze.engine.render;
+
+import com.gen.maze.engine.Maze;
+
+import java.nio.IntBuffer;
+
+/**
+ * Rasterises a maze as a block image: cell {@code (x, y)} is block {@code (2x + 1, 2y + 1)}, the blocks between
+ * two cells are either a wall or a passage, and the blocks at even/even positions are wall posts. Any viewport
+ * of that image can be sampled at any scale, and only cells under visible pixels are read, so the cost depends
+ * on the viewport rather than on the maze.
+ */
+public final class Raster {
+    private Raster() {
+    }
+
+    public static int blocks(int cells) {
+        return 2 * cells + 1;
+    }
+
+    /**
+     * Fills {@code pixels} row by row with a {@code width x height} ARGB viewport whose top-left corner is at block
+     * coordinates {@code (originX, originY)}, drawing {@code scale} pixels per block. Pixels outside the maze get
+     * {@code background}.
+     */
+    public static void draw(Maze maze, IntBuffer pixels, int width, int height,
+                            double originX, double originY, double scale,
+                            int wall, int floor, int background) {
+        maze.requireSquare();
+        var columns = new int[width];
+        for (int px = 0; px < width; px++) columns[px] = (int) Math.floor(originX + px / scale);
+
+        int bw = blocks(maze.width()), bh = blocks(maze.height());
+        for (int py = 0, i = 0; py < height; py++) {
+            int by = (int) Math.floor(originY + py / scale);
+
+            if (by < 0 || by >= bh) {
+                for (int px = 0; px < width; px++) pixels.put(i++, background);
+                continue;
+            }
+
+            for (int px = 0; px < width; px++) {
+                int bx = columns[px];
+                pixels.put(i++, bx < 0 || bx >= bw ? background : isWall(maze, bx, by) ? wall : floor);
+            }
+        }
+    }
+
+    /**
+     * Whether block {@code (bx, by)} is a wall. Throws {@link IllegalArgumentException} for a maze that
+     * {@link Maze#wraps}.
+     */
+    public static boolean isWall(Maze maze, int bx, int by) {
+        maze.requireSquare();
+        boolean oddX = (bx & 1) != 0, oddY = (by & 1) != 0;
+        if (oddX && oddY) return false;
+        if (!oddX && !oddY) return true;
+
+        if (oddY) { // between cells (bx / 2 - 1, y) and (bx / 2, y)
+            if (bx == 0 || bx == blocks(maze.width()) - 1) return true;
+            return !maze.isOpen((by >> 1) * maze.width() + (bx >> 1) - 1, Maze.RIGHT);
+        }
+        if (by == 0 || by == blocks(maze.height()) - 1) return true;
+        return !maze.isOpen(((by >> 1) - 1) * maze.width() + (bx >> 1), Maze.DOWN);
+    }
+}
@@ -0,0 +1,162 @@
+package com.gen.maze.engine.service;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.Visitor;
+import com.gen.maze.engine.io.MazeFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generated mazes by spec, least recently used first out once their words exceed the byte budget. With a spill
+ * directory, evicted mazes are written there as {@link MazeFile}s and later misses map them back instead of
+ * regenerating. Returned mazes are shared between callers and must not be carved.
+ * <p>
+ * {@link RandomSource#SECURE} specs are not reproducible and are never cached.
+ */
+public final class MazeCache {
+    public record Stats(long hits, long diskHits, long misses, long evictions, long bytes, int entries) {
+    }
+
+    private final long maxBytes;
+    private final Path spill;
+    private final LinkedHashMap<MazeSpec, Maze> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder(), diskHits = new LongAdder(), misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long bytes;
+
+    public MazeCache(long maxBytes) {
+        this(maxBytes, null);
+    }
+
+    public MazeCache(long maxBytes, Path spill) {
+        if (maxBytes < 0) throw new IllegalArgumentException("maxBytes must not be negative: " + maxBytes);
+
+        this.maxBytes = maxBytes;
+        this.spill = spill;
+    }
+
+    /**
+     * The cached maze, else the spilled one, else a freshly generated one. Concurrent misses on the same spec may
+     * each generate; the first to finish is kept.
+     */
+    public Maze get(MazeSpec spec) {
+        return get(spec, null);
+    }
+
+    /**
+     * As {@link #get(MazeSpec)}, passing {@code visitor} to the generator on a miss.
+     */
+    public Maze get(MazeSpec spec, Visitor visitor) {
+        if (spec.source() == RandomSource.SECURE) return spec.generate(visitor);
+
+        var maze = getIfPresent(spec);
+        if (maze != null) return maze;
+
+        maze = load(spec);
+        if (maze != null) {
+            diskHits.increment();
+        } else {
+            misses.increment();
+            maze = spec.generate(visitor);
+        }
+        return put(spec, maze);
+    }
+
+    public Maze getIfPresent(MazeSpec spec) {
+        Maze maze;
+        synchronized (entries) {
+            maze = entries.get(spec);
+        }
+        if (maze != null) hits.increment();
+        return maze;
+    }
+
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), diskHits.sum(), misses.sum(), evictions.sum(), bytes, entries.size());
+        }
+    }
+
+    /**
+     * Drops every in-memory entry without spilling it.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    private Maze put(MazeSpec spec, Maze maze) {
+        List<Map.Entry<MazeSpec, Maze>> evicted = new ArrayList<>();
+        synchronized (entries) {
+            var raced = entries.putIfAbsent(spec, maze);
+            if (raced != null) return raced;
+
+            bytes += sizeOf(maze);
+            for (var it = entries.entrySet().iterator(); bytes > maxBytes && it.hasNext(); ) {
+                var e = it.next();
+                it.remove();
+                bytes -= sizeOf(e.getValue());
+                evicted.add(e);
+            }
+        }
+
+        evictions.add(evicted.size());
+        if (spill != null) for (var e : evicted) store(e.getKey(), e.getValue());
+        return maze;
+    }
+
+    private Maze load(MazeSpec spec) {
+        if (spill == null) return null;
+
+        var path = pathOf(spec);
+        if (!Files.exists(path)) return null;
+
+        try (var file = MazeFile.open(path)) {
+            return file.spec().equals(spec) ? file.maze() : null; // another spec whose name sanitised the same
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes to a temporary file first so a concurrent {@link #load} never maps a half-written maze.
+     */
+    private void store(MazeSpec spec, Maze maze) {
+        var path = pathOf(spec);
+        if (Files.exists(path)) return;
+
+        try {
+            var tmp = Files.createTempFile(spill, "maze", ".tmp");
+            try {
+                MazeFile.write(tmp, spec, maze);
+                Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pathOf(MazeSpec spec) {
+        return spill.resolve("%s-%dx%d-%s-%016x.maze".formatted(MazeFile.fileName(spec.algorithm()), spec.width(),
+                spec.height(), spec.source(), spec.seed()));
+    }
+
+    private static long sizeOf(Maze maze) {
+        return (long) Maze.wordCount(maze.width(), maze.height()) << 3;
+    }
+}
@@ -0,0 +1,110 @@
+package com.gen.maze.engine.service;
+
+import com.gen.maze.engine.GenerationContext;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.Visitor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates independent mazes concurrently. At most {@code maxInFlight} mazes are queued or running at once;
+ * submitting more blocks the caller until one finishes, which keeps a large batch from piling up in memory.
+ */
+public final class MazeService implements AutoCloseable {
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Semaphore inFlight;
+    private final MazeCache cache;
+
+    public MazeService() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public MazeService(int maxInFlight) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), true, maxInFlight, null);
+    }
+
+    /**
+     * Serves repeated specs from {@code cache} instead of regenerating them.
+     */
+    public MazeService(int maxInFlight, MazeCache cache) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), true, maxInFlight, cache);
+    }
+
+    /**
+     * Runs on the caller's executor, which stays open when this service is closed.
+     */
+    public MazeService(ExecutorService executor, int maxInFlight) {
+        this(executor, false, maxInFlight, null);
+    }
+
+    public MazeService(ExecutorService executor, int maxInFlight, MazeCache cache) {
+        this(executor, false, maxInFlight, cache);
+    }
+
+    private MazeService(ExecutorService executor, boolean ownsExecutor, int maxInFlight, MazeCache cache) {
+        if (maxInFlight <= 0) throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.cache = cache;
+    }
+
+    /**
+     * Generates with no visitor, so generators keep their fast paths. Cancelling the returned future discards the
+     * result but lets the run finish; use {@link #generate(MazeSpec, GenerationContext)} to stop it.
+     */
+    public CompletableFuture<Maze> generate(MazeSpec spec) {
+        return submit(spec, null);
+    }
+
+    /**
+     * Generates under the caller's context, which can report progress and cancel the run.
+     */
+    public CompletableFuture<Maze> generate(MazeSpec spec, GenerationContext context) {
+        return submit(spec, context);
+    }
+
+    private CompletableFuture<Maze> submit(MazeSpec spec, Visitor visitor) {
+        if (cache != null) {
+            var maze = cache.getIfPresent(spec);
+            if (maze != null) return CompletableFuture.completedFuture(maze);
+        }
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> cache != null ? cache.get(spec, visitor) : spec.generate(visitor), executor)
+                    .whenComplete((m, e) -> inFlight.release());
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * One future per seed, in seed order. The stream is lazy: each maze is submitted as the stream is consumed,
+     * subject to the in-flight limit.
+     */
+    public Stream<CompletableFuture<Maze>> generateBatch(String algorithm, int rank, LongStream seeds) {
+        return seeds.mapToObj(seed -> generate(new MazeSpec(algorithm, rank, seed)));
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) executor.close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.gen.maze.engine.solve;
+
+import com.gen.maze.engine.Maze;
+
+/**
+ * Distances from one root cell to every other cell, filled by a single breadth-first pass. In a perfect maze
+ * these are tree depths, and a neighbour one step deeper through an open passage is a child.
+ */
+public final class DistanceField {
+    private final Maze maze;
+    private final int root;
+    private final int[] distance;
+    private final int farthest;
+
+    private DistanceField(Maze maze, int root, int[] distance, int farthest) {
+        this.maze = maze;
+        this.root = root;
+        this.distance = distance;
+        this.farthest = farthest;
+    }
+
+    /**
+     * Throws {@link IllegalArgumentException} for a maze that {@link Maze#wraps}.
+     */
+    public static DistanceField of(Maze maze, int root) {
+        maze.requireSquare();
+        int n = maze.size(), w = maze.width();
+        var distance = new int[n];
+        var queue = new int[n];
+        java.util.Arrays.fill(distance, -1);
+
+        int head = 0, tail = 0, last = root;
+        distance[root] = 0;
+        queue[tail++] = root;
+        while (head != tail) {
+            int c = last = queue[head++];
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(c, d)) continue;
+
+                int m = step(c, d, w);
+                if (distance[m] < 0) {
+                    distance[m] = distance[c] + 1;
+                    queue[tail++] = m;
+                }
+            }
+        }
+        return new DistanceField(maze, root, distance, last);
+    }
+
+    /**
+     * The same distances, sharing their array, for {@code maze}; {@code null} keeps them without a maze.
+     */
+    DistanceField attach(Maze maze) {
+        return new DistanceField(maze, root, distance, farthest);
+    }
+
+    public Maze maze() {
+        return maze;
+    }
+
+    public int root() {
+        return root;
+    }
+
+    /**
+     * Steps from the root, or -1 if the cell is not connected to it.
+     */
+    public int distance(int cell) {
+        return distance[cell];
+    }
+
+    /**
+     * A cell at the greatest distance from the root.
+     */
+    public int farthest() {
+        return farthest;
+    }
+
+    static int step(int c, int d, int w) {
+        return switch (d) {
+            case Maze.UP -> c - w;
+            case Maze.DOWN -> c + w;
+            case Maze.LEFT -> c - 1;
+            default -> c + 1;
+        };
+    }
+}
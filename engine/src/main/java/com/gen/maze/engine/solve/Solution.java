@@ -0,0 +1,8 @@
+package com.gen.maze.engine.solve;
+
+/**
+ * {@code length} is the number of steps from start to goal, or -1 if the goal is unreachable;
+ * {@code expanded} is the number of cells the search took off its frontier.
+ */
+public record Solution(int length, int expanded) {
+}
@@ -0,0 +1,289 @@
+package com.gen.maze.engine.solve;
+
+import com.gen.maze.engine.Maze;
+
+import java.util.Arrays;
+
+/**
+ * Path searches over a generated maze. Buffers are kept between calls and only grow, and visited cells are
+ * marked with a per-search stamp instead of being cleared, so repeated solves allocate nothing.
+ * Not thread-safe; use one solver per thread. Mazes that {@link Maze#wraps wrap} are rejected with
+ * {@link IllegalArgumentException}.
+ */
+public final class Solver {
+    private int[] queue = new int[0], parent = new int[0], other = new int[0], cost = new int[0];
+    private int[] mark = new int[0], path = new int[0];
+    private int stamp, pathCells;
+
+    public Solution bfs(Maze maze, int from, int to) {
+        int s = begin(maze);
+        int w = maze.width(), head = 0, tail = 0, expanded = 0;
+
+        queue[tail++] = from;
+        mark[from] = s;
+        parent[from] = -1;
+
+        while (head != tail) {
+            int c = queue[head++];
+            expanded++;
+            if (c == to) return found(parent, to, expanded);
+
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(c, d)) continue;
+
+                int n = DistanceField.step(c, d, w);
+                if (mark[n] != s) {
+                    mark[n] = s;
+                    parent[n] = c;
+                    queue[tail++] = n;
+                }
+            }
+        }
+        return notFound(expanded);
+    }
+
+    /**
+     * A* with the Manhattan distance as heuristic, on a binary heap kept in {@code queue}.
+     */
+    public Solution aStar(Maze maze, int from, int to) {
+        int s = begin(maze);
+        int w = maze.width(), tx = to % w, ty = to / w, size = 0, expanded = 0;
+
+        mark[from] = s;
+        parent[from] = -1;
+        cost[from] = 0;
+        size = push(size, from, tx, ty, w);
+
+        while (size != 0) {
+            int c = queue[0];
+            size = pop(size, tx, ty, w);
+            if (mark[c] == -s) continue; // stale entry of an already closed cell
+
+            mark[c] = -s;
+            expanded++;
+            if (c == to) return found(parent, to, expanded);
+
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(c, d)) continue;
+
+                int n = DistanceField.step(c, d, w);
+                if (mark[n] == -s || mark[n] == s && cost[n] <= cost[c] + 1) continue;
+
+                mark[n] = s;
+                parent[n] = c;
+                cost[n] = cost[c] + 1;
+                size = push(size, n, tx, ty, w);
+            }
+        }
+        return notFound(expanded);
+    }
+
+    /**
+     * Breadth-first from both ends, one level at a time from the smaller frontier, until the two searches meet.
+     * {@code mark} holds the stamp for cells reached from {@code from} and its negation for those reached from
+     * {@code to}; {@code queue} fills from the front for one side and from the back for the other.
+     */
+    public Solution bidirectional(Maze maze, int from, int to) {
+        int s = begin(maze);
+        int w = maze.width(), n = maze.size(), expanded = 0;
+        int aHead = 0, aTail = 0, bHead = n, bTail = n; // b grows downwards: [bTail, bHead)
+
+        if (from == to) {
+            pathCells = 0;
+            path[pathCells++] = from;
+            return new Solution(0, 1);
+        }
+
+        queue[aTail++] = from;
+        mark[from] = s;
+        parent[from] = -1;
+        queue[--bTail] = to;
+        mark[to] = -s;
+        other[to] = -1;
+
+        while (aHead != aTail && bHead != bTail) {
+            boolean forward = aTail - aHead <= bHead - bTail;
+            int level = forward ? aTail : bTail;
+
+            if (forward) {
+                while (aHead != level) {
+                    int c = queue[aHead++];
+                    expanded++;
+                    for (int d = 0; d < 4; d++) {
+                        if (!maze.isOpen(c, d)) continue;
+
+                        int m = DistanceField.step(c, d, w);
+                        if (mark[m] == -s) return met(c, m, expanded);
+                        if (mark[m] != s) {
+                            mark[m] = s;
+                            parent[m] = c;
+                            queue[aTail++] = m;
+                        }
+                    }
+                }
+            } else {
+                while (bHead != level) {
+                    int c = queue[--bHead];
+                    expanded++;
+                    for (int d = 0; d < 4; d++) {
+                        if (!maze.isOpen(c, d)) continue;
+
+                        int m = DistanceField.step(c, d, w);
+                        if (mark[m] == s) return met(m, c, expanded);
+                        if (mark[m] != -s) {
+                            mark[m] = -s;
+                            other[m] = c;
+                            queue[--bTail] = m;
+                        }
+                    }
+                }
+            }
+        }
+        return notFound(expanded);
+    }
+
+    /**
+     * Repeatedly walls off dead ends other than {@code from} and {@code to}; in a perfect maze what is left is
+     * exactly the path. Every cell is touched a constant number of times.
+     */
+    public Solution deadEndFill(Maze maze, int from, int to) {
+        int s = begin(maze);
+        int w = maze.width(), n = maze.size(), tail = 0, expanded = 0;
+
+        for (int c = 0; c < n; c++) {
+            int degree = 0;
+            for (int d = 0; d < 4; d++) if (maze.isOpen(c, d)) degree++;
+
+            cost[c] = degree;
+            if (degree <= 1 && c != from && c != to) queue[tail++] = c;
+        }
+
+        for (int head = 0; head != tail; ) {
+            int c = queue[head++];
+            mark[c] = s; // filled
+            expanded++;
+
+            for (int d = 0; d < 4; d++) {
+                if (!maze.isOpen(c, d)) continue;
+
+                int m = DistanceField.step(c, d, w);
+                if (mark[m] != s && --cost[m] == 1 && m != from && m != to) queue[tail++] = m;
+            }
+        }
+
+        if (mark[from] == s || mark[to] == s) return notFound(expanded);
+
+        pathCells = 0;
+        for (int c = from, prev = -1; ; ) {
+            path[pathCells++] = c;
+            if (c == to) break;
+
+            int next = -1;
+            for (int d = 0; d < 4 && next < 0; d++) {
+                if (!maze.isOpen(c, d)) continue;
+
+                int m = DistanceField.step(c, d, w);
+                if (m != prev && mark[m] != s) next = m;
+            }
+            if (next < 0) return notFound(expanded);
+
+            prev = c;
+            c = next;
+        }
+        return new Solution(pathCells - 1, expanded);
+    }
+
+    /**
+     * The cells of the last path found, from start to goal.
+     */
+    public int[] path() {
+        return Arrays.copyOf(path, pathCells);
+    }
+
+    private int begin(Maze maze) {
+        int n = maze.requireSquare().size();
+        if (mark.length < n) {
+            queue = new int[n];
+            parent = new int[n];
+            other = new int[n];
+            cost = new int[n];
+            mark = new int[n];
+            path = new int[n];
+            stamp = 0;
+        }
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(mark, 0);
+            stamp = 0;
+        }
+        pathCells = 0;
+        return ++stamp;
+    }
+
+    private Solution found(int[] parents, int to, int expanded) {
+        pathCells = 0;
+        for (int c = to; c >= 0; c = parents[c]) path[pathCells++] = c;
+        reverse(0, pathCells);
+
+        return new Solution(pathCells - 1, expanded);
+    }
+
+    private Solution met(int a, int b, int expanded) {
+        pathCells = 0;
+        for (int c = a; c >= 0; c = parent[c]) path[pathCells++] = c;
+        reverse(0, pathCells);
+        for (int c = b; c >= 0; c = other[c]) path[pathCells++] = c;
+
+        return new Solution(pathCells - 1, expanded);
+    }
+
+    private Solution notFound(int expanded) {
+        pathCells = 0;
+        return new Solution(-1, expanded);
+    }
+
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int t = path[i];
+            path[i] = path[j];
+            path[j] = t;
+        }
+    }
+
+    private int push(int size, int c, int tx, int ty, int w) {
+        if (size == queue.length) queue = Arrays.copyOf(queue, size * 2); // only mazes with loops re-open cells
+        int i = size++;
+        int f = score(c, tx, ty, w);
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (score(queue[p], tx, ty, w) <= f) break;
+
+            queue[i] = queue[p];
+            i = p;
+        }
+        queue[i] = c;
+        return size;
+    }
+
+    private int pop(int size, int tx, int ty, int w) {
+        int last = queue[--size];
+        int f = score(last, tx, ty, w);
+        int i = 0;
+        while (true) {
+            int l = 2 * i + 1;
+            if (l >= size) break;
+
+            int r = l + 1;
+            int child = r < size && score(queue[r], tx, ty, w) < score(queue[l], tx, ty, w) ? r : l;
+            if (score(queue[child], tx, ty, w) >= f) break;
+
+            queue[i] = queue[child];
+            i = child;
+        }
+        if (size > 0) queue[i] = last;
+        return size;
+    }
+
+    private int score(int c, int tx, int ty, int w) {
+        return cost[c] + Math.abs(c % w - tx) + Math.abs(c / w - ty);
+    }
+}
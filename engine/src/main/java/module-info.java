@@ -0,0 +1,15 @@
+module com.gen.maze.engine {
+    requires java.base;
+    requires jdk.jfr;
+    requires jdk.management;
+
+    exports com.gen.maze.engine;
+    exports com.gen.maze.engine.cli;
+    exports com.gen.maze.engine.data;
+    exports com.gen.maze.engine.gen;
+    exports com.gen.maze.engine.io;
+    exports com.gen.maze.engine.metrics;
+    exports com.gen.maze.engine.render;
+    exports com.gen.maze.engine.service;
+    exports com.gen.maze.engine.solve;
+}
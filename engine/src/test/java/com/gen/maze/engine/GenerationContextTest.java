@@ -0,0 +1,23 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.gen.Kruskal;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GenerationContextTest {
+    @Test
+    void cancelStopsKruskalWhileItListsEdges() {
+        var maze = new Maze(64);
+        var context = new GenerationContext(maze.size());
+        context.cancel();
+
+        RandomGenerator noDraws = () -> {
+            throw new AssertionError("Kruskal reached its shuffle after being cancelled");
+        };
+        assertThrows(CancellationException.class, () -> new Kruskal().generate(maze, noDraws, context));
+    }
+}
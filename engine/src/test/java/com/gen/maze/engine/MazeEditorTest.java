@@ -0,0 +1,62 @@
+package com.gen.maze.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MazeEditorTest {
+    @Test
+    void regeneratedRegionsKeepTheMazePerfect() {
+        var random = new SplittableRandom(11);
+        var maze = new MazeSpec("backtracking", 41, 1).generate();
+        var editor = new MazeEditor(maze);
+        var names = Generators.names();
+
+        for (int i = 0; i < 200; i++) {
+            int x = random.nextInt(41), y = random.nextInt(41);
+            int width = 1 + random.nextInt(41 - x), height = 1 + random.nextInt(41 - y);
+            var before = new Maze(41);
+            maze.copyTo(before);
+
+            editor.regenerate(x, y, width, height, Generators.byName(names.get(i % names.size())), random);
+            assertPerfect(maze);
+            for (int c = 0; c < maze.size(); c++) {
+                int cx = c % 41, cy = c / 41;
+                if (cx + 1 < x || cx > x + width || cy + 1 < y || cy > y + height) { // touches no region cell
+                    assertEquals(before.isOpen(c, Maze.RIGHT), maze.isOpen(c, Maze.RIGHT), "cell " + c);
+                    assertEquals(before.isOpen(c, Maze.DOWN), maze.isOpen(c, Maze.DOWN), "cell " + c);
+                }
+            }
+        }
+    }
+
+    @Test
+    void wholeMazeAndSingleCellsCanBeRegenerated() {
+        var maze = new MazeSpec("kruskal", 16, 2).generate();
+        var editor = new MazeEditor(maze);
+        editor.regenerate(0, 0, 16, 16, Generators.byName("wilson"), new SplittableRandom(1));
+        assertPerfect(maze);
+        editor.regenerate(15, 15, 1, 1, Generators.byName("wilson"), new SplittableRandom(2));
+        assertPerfect(maze);
+    }
+
+    @Test
+    void imperfectMazesAndBadRegionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MazeEditor(new Maze(8)));
+
+        var maze = new MazeSpec("kruskal", 8, 3).generate();
+        int closed = 0;
+        while (closed % 8 == 7 || maze.isOpen(closed, Maze.RIGHT)) closed++;
+        maze.carve(closed, Maze.RIGHT); // closes a loop
+        assertThrows(IllegalArgumentException.class, () -> new MazeEditor(maze));
+
+        var editor = new MazeEditor(new MazeSpec("kruskal", 8, 3).generate());
+        var generator = Generators.byName("wilson");
+        assertThrows(IllegalArgumentException.class, () -> editor.regenerate(4, 4, 5, 1, generator, new SplittableRandom(1)));
+        assertThrows(IllegalArgumentException.class, () -> editor.regenerate(0, 0, 0, 1, generator, new SplittableRandom(1)));
+    }
+}
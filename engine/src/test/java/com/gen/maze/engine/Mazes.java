@@ -0,0 +1,57 @@
+package com.gen.maze.engine;
+
+import java.util.ArrayDeque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Assertions shared by the engine tests.
+ */
+public final class Mazes {
+    private Mazes() {
+    }
+
+    /**
+     * Every enabled cell is reachable from {@link Topology#first} and there is exactly one passage fewer than
+     * cells, so the passages form a spanning tree.
+     */
+    public static void assertPerfect(Topology grid) {
+        long passages = 0;
+        for (int c = 0; c < grid.size(); c++) {
+            if (!grid.contains(c)) continue;
+            for (int d = 1; d < grid.degree(); d += 2) {
+                if (grid.neighbour(c, d) >= 0 && grid.isOpen(c, d)) passages++;
+            }
+        }
+        assertEquals(grid.cells() - 1, passages, "passages");
+
+        var seen = new boolean[grid.size()];
+        var queue = new ArrayDeque<Integer>();
+        seen[grid.first()] = true;
+        queue.add(grid.first());
+        int reached = 0;
+        while (!queue.isEmpty()) {
+            int c = queue.poll();
+            reached++;
+            for (int d = 0; d < grid.degree(); d++) {
+                int m = grid.neighbour(c, d);
+                if (m >= 0 && grid.isOpen(c, d) && !seen[m]) {
+                    seen[m] = true;
+                    queue.add(m);
+                }
+            }
+        }
+        assertEquals(grid.cells(), reached, "cells reached from " + grid.first());
+    }
+
+    public static void assertPerfect(Maze maze) {
+        assertPerfect(new Grid(maze));
+    }
+
+    public static void assertSameWalls(Maze expected, Maze actual) {
+        assertEquals(expected.width(), actual.width());
+        assertEquals(expected.height(), actual.height());
+        for (int i = 0, n = Maze.wordCount(expected.width(), expected.height()); i < n; i++)
+            assertEquals(expected.words().get(i), actual.words().get(i), "word " + i);
+    }
+}
@@ -0,0 +1,93 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.data.Bits;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PerfectMazeTest {
+    private static final int[][] SIZES = {{1, 1}, {1, 17}, {17, 1}, {2, 2}, {33, 20}, {64, 64}};
+
+    @Test
+    void everyGeneratorCarvesAPerfectGrid() {
+        for (var name : Generators.names()) {
+            for (var size : SIZES) {
+                var maze = new Maze(size[0], size[1]);
+                Generators.byName(name).generate(maze, new SplittableRandom(size[0] * 31L + size[1]), null);
+                assertPerfect(maze);
+            }
+        }
+    }
+
+    @Test
+    void everyGeneratorStaysInsideItsRegion() {
+        for (var name : Generators.names()) {
+            var maze = new Maze(40, 30);
+            var region = new Grid(maze).region(5, 3, 20, 17);
+            Generators.byName(name).generate(region, new SplittableRandom(8), null);
+            assertPerfect(region);
+            assertEquals(region.cells() - 1, passages(maze), name + " carved outside its region");
+        }
+    }
+
+    @Test
+    void parallelTilesCarvePerfectMazes() {
+        for (var name : Generators.names()) {
+            var maze = new Maze(600, 300);
+            Generators.byName("parallel-" + name).generate(maze, new SplittableRandom(8), null);
+            assertPerfect(maze);
+        }
+    }
+
+    @Test
+    void everyGeneratorCarvesPerfectHexGrids() {
+        for (var name : Generators.names()) {
+            for (var size : SIZES) {
+                var grid = new HexGrid(size[0], size[1]);
+                Generators.byName(name).generate(grid, new SplittableRandom(size[0] * 31L + size[1]), null);
+                assertPerfect(grid);
+            }
+        }
+    }
+
+    @Test
+    void everyGeneratorCarvesPerfectTori() {
+        for (var name : Generators.names()) {
+            for (var size : SIZES) {
+                var grid = new TorusGrid(new Maze(size[0], size[1]));
+                Generators.byName(name).generate(grid, new SplittableRandom(size[0] * 31L + size[1]), null);
+                assertPerfect(grid);
+            }
+        }
+    }
+
+    @Test
+    void everyGeneratorCarvesPerfectMaskedGrids() {
+        var enabled = Bits.create(30 * 24);
+        for (int y = 0; y < 24; y++) {
+            for (int x = 0; x < 30; x++) {
+                int r = (x - 15) * (x - 15) + (y - 12) * (y - 12);
+                if (r <= 11 * 11 && r > 3 * 3) Bits.set(enabled, y * 30 + x); // a ring, so cell 0 is disabled
+            }
+        }
+        for (var name : Generators.names()) {
+            var maze = new Maze(30, 24);
+            var grid = new MaskedGrid(maze, enabled);
+            Generators.byName(name).generate(grid, new SplittableRandom(8), null);
+            assertPerfect(grid);
+            assertEquals(grid.cells() - 1, passages(maze), name + " carved into disabled cells");
+        }
+    }
+
+    private static int passages(Maze maze) {
+        int passages = 0;
+        for (int c = 0; c < maze.size(); c++) {
+            if (maze.isOpen(c, Maze.RIGHT)) passages++;
+            if (maze.isOpen(c, Maze.DOWN)) passages++;
+        }
+        return passages;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gen.maze.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static com.gen.maze.engine.Mazes.assertSameWalls;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class RandomSourceTest {
+    @Test
+    void sameSeedGivesTheSameMaze() {
+        for (var source : RandomSource.values()) {
+            if (source == RandomSource.SECURE) continue; // ignores the seed by design
+            for (var name : Generators.names()) {
+                var maze = new MazeSpec(name, 45, 38, 42, source).generate();
+                assertSameWalls(maze, new MazeSpec(name, 45, 38, 42, source).generate());
+                assertNotEquals(maze.words().get(7), new MazeSpec(name, 45, 38, 43, source).generate().words().get(7),
+                        name + " with " + source + " ignored the seed");
+            }
+        }
+    }
+
+    @Test
+    void secureSourceStillCarvesPerfectMazes() {
+        for (var name : Generators.names()) assertPerfect(new MazeSpec(name, 45, 38, 42, RandomSource.SECURE).generate());
+    }
+}
@@ -0,0 +1,87 @@
+package com.gen.maze.engine;
+
+import com.gen.maze.engine.gen.Wilson;
+import com.gen.maze.engine.io.MazeFile;
+import com.gen.maze.engine.metrics.Texture;
+import com.gen.maze.engine.render.Ascii;
+import com.gen.maze.engine.render.Png;
+import com.gen.maze.engine.render.Raster;
+import com.gen.maze.engine.solve.DistanceField;
+import com.gen.maze.engine.solve.Solver;
+import com.gen.maze.engine.solve.TreeIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TorusGridTest {
+    private static Maze torus() {
+        var maze = new Maze(16, 12);
+        new Wilson().generate(new TorusGrid(maze), new SplittableRandom(7), null);
+        return maze;
+    }
+
+    @Test
+    void squareReadersRejectTorusMazes() {
+        var maze = torus();
+        var sink = Channels.newChannel(new ByteArrayOutputStream());
+        List<Executable> readers = List.of(
+                () -> new Solver().bfs(maze, 0, maze.size() - 1),
+                () -> new Solver().aStar(maze, 0, maze.size() - 1),
+                () -> new Solver().bidirectional(maze, 0, maze.size() - 1),
+                () -> new Solver().deadEndFill(maze, 0, maze.size() - 1),
+                () -> DistanceField.of(maze, 0),
+                () -> TreeIndex.of(maze),
+                () -> Texture.of(maze),
+                () -> Raster.isWall(maze, 1, 2),
+                () -> Raster.draw(maze, IntBuffer.allocate(64), 8, 8, 0, 0, 1, 0, 1, 2),
+                () -> Png.write(maze, sink),
+                () -> Ascii.write(maze, sink),
+                () -> new MazeEditor(maze));
+        for (var reader : readers) assertThrows(IllegalArgumentException.class, reader);
+    }
+
+    @Test
+    void squareMazesAreStillRead() {
+        var maze = new Maze(16, 12);
+        new Wilson().generate(maze, new SplittableRandom(7), null);
+        assertFalse(maze.wraps());
+        assertEquals(TreeIndex.of(maze).distance(0, maze.size() - 1), new Solver().bfs(maze, 0, maze.size() - 1).length());
+    }
+
+    @Test
+    void mazeFileKeepsTheTopology(@TempDir Path dir) throws IOException {
+        var maze = torus();
+        var spec = new MazeSpec("wilson", maze.width(), maze.height(), 7, RandomSource.SPLITTABLE);
+        MazeFile.write(dir.resolve("torus.maze"), spec, maze);
+        MazeFile.write(dir.resolve("square.maze"), spec, new Maze(16, 12));
+
+        try (var file = MazeFile.open(dir.resolve("torus.maze"))) {
+            assertTrue(file.maze().wraps());
+            for (int i = 0; i < Maze.wordCount(16, 12); i++) assertEquals(maze.words().get(i), file.maze().words().get(i));
+        }
+        try (var file = MazeFile.open(dir.resolve("square.maze"))) {
+            assertFalse(file.maze().wraps());
+        }
+    }
+
+    @Test
+    void torusCreatedInAFileIsTaggedOnClose(@TempDir Path dir) throws IOException {
+        var spec = new MazeSpec("wilson", 16, 12, 7, RandomSource.SPLITTABLE);
+        try (var file = MazeFile.create(dir.resolve("torus.maze"), spec)) {
+            new TorusGrid(file.maze());
+        }
+        try (var file = MazeFile.open(dir.resolve("torus.maze"))) {
+            assertTrue(file.maze().wraps());
+        }
+    }
+}
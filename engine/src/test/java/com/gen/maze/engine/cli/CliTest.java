@@ -0,0 +1,54 @@
+package com.gen.maze.engine.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CliTest {
+    @TempDir
+    Path dir;
+
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private int run(String... args) {
+        return Cli.run(args, new PrintStream(new ByteArrayOutputStream()), new PrintStream(err));
+    }
+
+    @Test
+    void negativeSeedsAreAccepted() {
+        var options = Cli.parse(new String[]{"--algorithm", "kruskal", "--rank", "8", "--seeds", "-3..-1", "--out", "x"});
+        assertEquals(-3, options.from());
+        assertEquals(-1, options.to());
+
+        assertEquals(0, run("--algorithm", "kruskal", "--rank", "8", "--seeds", "-2..1", "--out", dir.toString()));
+        assertTrue(Files.exists(dir.resolve("kruskal-8--2.maze")));
+    }
+
+    @Test
+    void missingAndOversizedSeedRangesAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Cli.parse(new String[]{"--algorithm", "kruskal", "--rank", "8", "--out", "x"}));
+        assertThrows(IllegalArgumentException.class, () -> Cli.parse(new String[]{"--algorithm", "kruskal",
+                "--rank", "8", "--seeds", Long.MIN_VALUE + ".." + Long.MAX_VALUE, "--out", "x"}));
+        assertThrows(IllegalArgumentException.class, () -> Cli.parse(new String[]{"--algorithm", "kruskal",
+                "--rank", "8", "--seeds", "0.." + Long.MAX_VALUE, "--out", "x"}));
+        Cli.parse(new String[]{"--algorithm", "kruskal", "--rank", "8", "--seeds", "1.." + Long.MAX_VALUE, "--out", "x"});
+    }
+
+    @Test
+    void generationErrorsExitWithUsageStatus() {
+        // parses fine, but the name is too long for a maze file header
+        int status = run("--algorithm", "growing-tree:newest=1,random=1,oldest=1", "--rank", "8", "--seeds", "0",
+                "--out", dir.toString());
+        assertEquals(2, status);
+        assertTrue(err.toString().contains("too long"), err.toString());
+    }
+}
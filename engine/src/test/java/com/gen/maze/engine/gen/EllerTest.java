@@ -0,0 +1,50 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.SplittableRandom;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static com.gen.maze.engine.Mazes.assertSameWalls;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EllerTest {
+    private static final int[] WIDTHS = {1, 31, 32, 33, 70};
+    private static final int HEIGHT = 45;
+
+    @Test
+    void streamedRowsFormAPerfectMaze() {
+        for (int width : WIDTHS) assertPerfect(collect(Eller.rows(width, HEIGHT, new SplittableRandom(width))));
+    }
+
+    @Test
+    void transferToWritesMazeWords() {
+        for (int width : WIDTHS) {
+            var out = new ByteArrayOutputStream();
+            long written = Eller.rows(width, HEIGHT, new SplittableRandom(width)).transferTo(Channels.newChannel(out));
+            assertEquals((long) Maze.wordCount(width, HEIGHT) << 3, written);
+
+            var words = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+            var streamed = new Maze(width, HEIGHT);
+            for (int i = 0; i < Maze.wordCount(width, HEIGHT); i++) streamed.words().set(i, words.get(i));
+            assertSameWalls(collect(Eller.rows(width, HEIGHT, new SplittableRandom(width))), streamed);
+        }
+    }
+
+    private static Maze collect(Eller.Rows rows) {
+        var maze = new Maze(rows.width(), HEIGHT);
+        for (int c = 0; rows.hasNext(); ) {
+            var row = rows.next();
+            for (int x = 0; x < rows.width(); x++, c++) {
+                if (Eller.Rows.isOpen(row, x, Maze.RIGHT)) maze.carve(c, Maze.RIGHT);
+                if (Eller.Rows.isOpen(row, x, Maze.DOWN)) maze.carve(c, Maze.DOWN);
+            }
+        }
+        return maze;
+    }
+}
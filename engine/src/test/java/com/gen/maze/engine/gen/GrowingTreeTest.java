@@ -0,0 +1,50 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.HexGrid;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.TorusGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GrowingTreeTest {
+    private static final String[] POLICIES = {"newest", "random", "oldest", "newest=3,random=1", "random=1,oldest=1",
+            "newest=1,random=1,oldest=1"};
+
+    @Test
+    void everyPolicyCarvesPerfectMazes() {
+        for (var policy : POLICIES) {
+            var generator = Generators.byName("growing-tree:" + policy);
+
+            var maze = new Maze(37, 29);
+            generator.generate(maze, new SplittableRandom(3), null);
+            assertPerfect(maze);
+
+            var hex = new HexGrid(37, 29);
+            generator.generate(hex, new SplittableRandom(3), null);
+            assertPerfect(hex);
+
+            var torus = new TorusGrid(new Maze(37, 29));
+            generator.generate(torus, new SplittableRandom(3), null);
+            assertPerfect(torus);
+        }
+    }
+
+    @Test
+    void singlePoliciesNeedNoMixing() {
+        assertSame(GrowingTree.Policy.NEWEST, GrowingTree.Policy.parse("newest=4"));
+        assertSame(GrowingTree.Policy.RANDOM, GrowingTree.Policy.parse("random"));
+        assertSame(GrowingTree.Policy.OLDEST, GrowingTree.Policy.weighted(0, 0, 2));
+    }
+
+    @Test
+    void malformedPoliciesAreRejected() {
+        for (var policy : new String[]{"newest=x", "sideways", "newest=0", "newest=-1,random=1"})
+            assertThrows(IllegalArgumentException.class, () -> GrowingTree.Policy.parse(policy), policy);
+    }
+}
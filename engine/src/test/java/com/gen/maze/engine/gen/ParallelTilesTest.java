@@ -0,0 +1,55 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static com.gen.maze.engine.Mazes.assertSameWalls;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ParallelTilesTest {
+    @Test
+    void tilesDrawFromTheSpecsSource() {
+        var seeds = new ConcurrentLinkedQueue<Long>();
+        var tiles = new ParallelTiles(new Backtracking(), 256, ForkJoinPool.commonPool(), seed -> {
+            seeds.add(seed);
+            return RandomSource.XOROSHIRO.create(seed);
+        });
+        var maze = new Maze(600, 300);
+        tiles.generate(maze, RandomSource.XOROSHIRO.create(4), null);
+        assertPerfect(maze);
+        assertEquals(6, seeds.size());
+
+        assertSameWalls(maze, new MazeSpec("parallel-backtracking", 600, 300, 4, RandomSource.XOROSHIRO).generate());
+        var splitTiles = new Maze(600, 300);
+        new ParallelTiles(new Backtracking(), 256).generate(splitTiles, RandomSource.XOROSHIRO.create(4), null);
+        assertNotEquals(maze.words().get(0), splitTiles.words().get(0));
+    }
+
+    @Test
+    void sameSeedGivesTheSameMazeWithEverySeedableSource() {
+        for (var source : new RandomSource[]{RandomSource.SPLITTABLE, RandomSource.XOROSHIRO}) {
+            var spec = new MazeSpec("parallel-wilson", 600, 300, 9, source);
+            assertSameWalls(spec.generate(), spec.generate());
+        }
+    }
+
+    @Test
+    void metricsCountTileDraws() {
+        var metrics = new Metrics();
+        metrics.generate(new MazeSpec("parallel-binary-tree", 600, 300, 1, RandomSource.SPLITTABLE));
+
+        // one draw per 64 cells of each 256x256, 88x256, 256x44 and 88x44 tile, six tile seeds, six swaps to
+        // shuffle the seven tile borders and one passage for each of the five borders the stitch opens
+        long tiles = 2 * 1024 + 352 + 2 * 176 + 61;
+        assertEquals(tiles + 6 + 6 + 5, metrics.snapshot().randomDraws());
+    }
+}
@@ -0,0 +1,48 @@
+package com.gen.maze.engine.gen;
+
+import com.gen.maze.engine.Generator;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.Visitor;
+import org.junit.jupiter.api.Test;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static com.gen.maze.engine.Mazes.assertSameWalls;
+
+/**
+ * Binary tree and sidewinder write a whole maze without a visitor a word at a time; with a visitor they carve
+ * cell by cell from the same draws and must end up with the same walls.
+ */
+class WordPathTest {
+    private static final int[] WIDTHS = {1, 31, 33, 65};
+    private static final int[] HEIGHTS = {1, 7, 33, 70};
+
+    @Test
+    void binaryTreeWordsMatchTheVisitorPath() {
+        assertSamePaths(new BinaryTree());
+    }
+
+    @Test
+    void sidewinderWordsMatchTheVisitorPath() {
+        assertSamePaths(new Sidewinder());
+    }
+
+    private static void assertSamePaths(Generator generator) {
+        for (var source : new RandomSource[]{RandomSource.SPLITTABLE, RandomSource.XOROSHIRO}) {
+            for (int width : WIDTHS) {
+                for (int height : HEIGHTS) {
+                    long seed = width * 1000L + height;
+                    var words = new Maze(width, height);
+                    generator.generate(words, source.create(seed), null);
+
+                    var cells = new Maze(width, height);
+                    generator.generate(cells, source.create(seed), new Visitor() {
+                    });
+
+                    assertPerfect(words);
+                    assertSameWalls(cells, words);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.gen.maze.engine.io;
+
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.data.Storage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.gen.maze.engine.Mazes.assertPerfect;
+import static com.gen.maze.engine.Mazes.assertSameWalls;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MazeFileTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void writtenMazesReadBackUnchanged() throws IOException {
+        for (var spec : new MazeSpec[]{new MazeSpec("kruskal", 1, 1, 5, RandomSource.SPLITTABLE),
+                new MazeSpec("wilson", 33, 7, -9, RandomSource.XOROSHIRO),
+                new MazeSpec("growing-tree:newest=3,random=1", 64, 65, Long.MAX_VALUE, RandomSource.SPLITTABLE)}) {
+            var maze = spec.generate();
+            var path = dir.resolve(MazeFile.fileName(spec.algorithm()) + ".maze");
+            MazeFile.write(path, spec, maze);
+
+            assertEquals(MazeFile.HEADER_BYTES + ((long) Maze.wordCount(spec.width(), spec.height()) << 3), Files.size(path));
+            try (var file = MazeFile.open(path)) {
+                assertEquals(spec, file.spec());
+                assertSameWalls(maze, file.maze());
+            }
+        }
+    }
+
+    @Test
+    void unknownSourceIsKept() throws IOException {
+        var spec = new MazeSpec("streamed", 10, 10, 0, null);
+        MazeFile.write(dir.resolve("streamed.maze"), spec, new Maze(10));
+        try (var file = MazeFile.open(dir.resolve("streamed.maze"))) {
+            assertEquals(spec, file.spec());
+        }
+    }
+
+    @Test
+    void writableFilesKeepCarvedPassages() throws IOException {
+        var spec = new MazeSpec("backtracking", 20, 3);
+        var path = dir.resolve("edited.maze");
+        MazeFile.write(path, spec, new Maze(20));
+
+        try (var file = MazeFile.open(path, true)) {
+            file.maze().carve(21, Maze.RIGHT);
+        }
+        try (var file = MazeFile.open(path)) {
+            assertTrue(file.maze().isOpen(22, Maze.LEFT));
+        }
+    }
+
+    @Test
+    void generatorsCarveStraightIntoCreatedFiles() throws IOException {
+        for (var name : Generators.names()) {
+            var spec = new MazeSpec(name, 45, 3);
+            var path = dir.resolve(MazeFile.fileName(name) + ".maze");
+            try (var file = MazeFile.create(path, spec)) {
+                assertSame(Storage.heap(), file.maze().words().storage()); // native scratch would need preview APIs
+                Generators.byName(name).generate(file.maze(), spec.source().create(spec.seed()), null);
+            }
+            try (var file = MazeFile.open(path)) {
+                assertPerfect(file.maze());
+                assertSameWalls(spec.generate(), file.maze());
+            }
+        }
+    }
+
+    @Test
+    void damagedFilesAreRejected() throws IOException {
+        var spec = new MazeSpec("backtracking", 20, 3);
+        var truncated = dir.resolve("truncated.maze");
+        MazeFile.write(truncated, spec, spec.generate());
+        try (var channel = FileChannel.open(truncated, WRITE)) {
+            channel.truncate(Files.size(truncated) - 8);
+        }
+        assertThrows(IOException.class, () -> MazeFile.open(truncated));
+
+        var foreign = Files.write(dir.resolve("foreign.maze"), new byte[MazeFile.HEADER_BYTES + 64]);
+        assertThrows(IOException.class, () -> MazeFile.open(foreign));
+
+        var empty = Files.write(dir.resolve("empty.maze"), new byte[0]);
+        assertThrows(IOException.class, () -> MazeFile.open(empty));
+    }
+}
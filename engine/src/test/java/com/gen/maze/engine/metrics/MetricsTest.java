@@ -0,0 +1,63 @@
+package com.gen.maze.engine.metrics;
+
+import com.gen.maze.engine.GenerationContext;
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.Visitor;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsTest {
+    @Test
+    void kruskalCountsOneUnionPerPassage() {
+        var metrics = new Metrics();
+        var maze = metrics.generate(new MazeSpec("kruskal", 100, 1));
+
+        assertEquals(maze.size() - 1, metrics.snapshot().unions());
+        assertEquals(2 * (2 * 100 * 99), metrics.snapshot().finds()); // two per edge tried
+        assertTrue(metrics.snapshot().findDepthTotal() > 0);
+    }
+
+    @Test
+    void parallelStitchCountsOnlyJoinedTiles() {
+        var metrics = new Metrics();
+        var maze = metrics.generate(new MazeSpec("parallel-kruskal", 600, 1));
+
+        assertEquals(maze.size() - 1, metrics.snapshot().unions());
+        // edges inside the 3x3 tiles, which leave out the 2400 crossing tile borders, and the 12 tile borders
+        assertEquals(2 * (2 * 600 * 599 - 2400 + 12), metrics.snapshot().finds());
+    }
+
+    @Test
+    void unionDepthsAreOnlyMeasuredWhenWanted() {
+        var depths = new long[2];
+        var quiet = new Visitor() {
+            @Override
+            public void onUnion(int depthA, int depthB) {
+                depths[0] += depthA + depthB;
+            }
+        };
+        var curious = new Visitor() {
+            @Override
+            public void onUnion(int depthA, int depthB) {
+                depths[1] += depthA + depthB;
+            }
+
+            @Override
+            public boolean wantsUnionDepth() {
+                return true;
+            }
+        };
+        for (var name : new String[]{"kruskal", "parallel-kruskal"}) {
+            Generators.byName(name).generate(new Maze(300), new SplittableRandom(1), quiet);
+            Generators.byName(name).generate(new Maze(300), new SplittableRandom(1), new GenerationContext(300 * 300, curious));
+        }
+        assertEquals(0, depths[0]);
+        assertTrue(depths[1] > 0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.gen.maze.engine.solve;
+
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolverTest {
+    /**
+     * Distances from {@code from} by a breadth-first search written for clarity, -1 where unreachable.
+     */
+    static int[] plainBfs(Maze maze, int from) {
+        var distance = new int[maze.size()];
+        Arrays.fill(distance, -1);
+        distance[from] = 0;
+        var queue = new ArrayDeque<Integer>();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            int c = queue.poll(), x = c % maze.width(), y = c / maze.width();
+            int[][] steps = {{Maze.UP, x, y - 1}, {Maze.DOWN, x, y + 1}, {Maze.LEFT, x - 1, y}, {Maze.RIGHT, x + 1, y}};
+            for (var step : steps) {
+                if (step[1] < 0 || step[2] < 0 || step[1] >= maze.width() || step[2] >= maze.height()) continue;
+
+                int m = step[2] * maze.width() + step[1];
+                if (maze.isOpen(c, step[0]) && distance[m] < 0) {
+                    distance[m] = distance[c] + 1;
+                    queue.add(m);
+                }
+            }
+        }
+        return distance;
+    }
+
+    @Test
+    void searchesAgreeWithPlainBfsOnPerfectMazes() {
+        var solver = new Solver();
+        var random = new SplittableRandom(5);
+        for (var name : new String[]{"backtracking", "kruskal", "binary-tree", "wilson"}) {
+            var maze = new MazeSpec(name, 37, 23, 5, RandomSource.SPLITTABLE).generate();
+            for (int i = 0; i < 50; i++) {
+                int from = random.nextInt(maze.size()), to = random.nextInt(maze.size());
+                int expected = plainBfs(maze, from)[to];
+
+                assertPath(maze, solver, from, to, expected, solver.bfs(maze, from, to));
+                assertPath(maze, solver, from, to, expected, solver.aStar(maze, from, to));
+                assertPath(maze, solver, from, to, expected, solver.bidirectional(maze, from, to));
+                assertPath(maze, solver, from, to, expected, solver.deadEndFill(maze, from, to));
+            }
+        }
+    }
+
+    @Test
+    void shortestPathsSurviveLoops() {
+        var solver = new Solver();
+        var random = new SplittableRandom(6);
+        var maze = new MazeSpec("backtracking", 40, 6).generate();
+        for (int i = 0; i < 300; i++) {
+            int c = random.nextInt(maze.size());
+            if (c % 40 != 39) maze.carve(c, Maze.RIGHT);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(maze.size()), to = random.nextInt(maze.size());
+            int expected = plainBfs(maze, from)[to];
+
+            assertPath(maze, solver, from, to, expected, solver.bfs(maze, from, to));
+            assertPath(maze, solver, from, to, expected, solver.aStar(maze, from, to));
+            assertPath(maze, solver, from, to, expected, solver.bidirectional(maze, from, to));
+        }
+    }
+
+    @Test
+    void unreachableGoalsAreReported() {
+        var solver = new Solver();
+        var maze = new Maze(9, 4);
+        for (int c = 0; c < 8; c++) maze.carve(c, Maze.RIGHT); // the top row only
+
+        assertEquals(-1, solver.bfs(maze, 0, 35).length());
+        assertEquals(-1, solver.aStar(maze, 0, 35).length());
+        assertEquals(-1, solver.bidirectional(maze, 0, 35).length());
+        assertEquals(8, solver.bfs(maze, 0, 8).length());
+    }
+
+    private static void assertPath(Maze maze, Solver solver, int from, int to, int expected, Solution solution) {
+        assertEquals(expected, solution.length(), from + " -> " + to);
+
+        var path = solver.path();
+        assertEquals(expected + 1, path.length);
+        assertEquals(from, path[0]);
+        assertEquals(to, path[path.length - 1]);
+        for (int i = 1; i < path.length; i++) {
+            int a = path[i - 1], b = path[i];
+            int dir = b == a + 1 ? Maze.RIGHT : b == a - 1 ? Maze.LEFT : b == a + maze.width() ? Maze.DOWN : Maze.UP;
+            assertTrue(Math.abs(a % maze.width() - b % maze.width()) + Math.abs(a / maze.width() - b / maze.width()) == 1
+                    && maze.isOpen(a, dir), "step " + a + " -> " + b);
+        }
+    }
+}
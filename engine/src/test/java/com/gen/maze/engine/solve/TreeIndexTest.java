@@ -0,0 +1,91 @@
+package com.gen.maze.engine.solve;
+
+import com.gen.maze.engine.Generators;
+import com.gen.maze.engine.Grid;
+import com.gen.maze.engine.HexGrid;
+import com.gen.maze.engine.MaskedGrid;
+import com.gen.maze.engine.Maze;
+import com.gen.maze.engine.MazeSpec;
+import com.gen.maze.engine.RandomSource;
+import com.gen.maze.engine.data.Bits;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static com.gen.maze.engine.solve.SolverTest.plainBfs;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TreeIndexTest {
+    @Test
+    void distanceFieldsAgreeWithPlainBfs() {
+        var maze = new MazeSpec("wilson", 29, 31, 4, RandomSource.SPLITTABLE).generate();
+        for (int root : new int[]{0, 17, maze.size() - 1}) {
+            var expected = plainBfs(maze, root);
+            var field = DistanceField.of(maze, root);
+
+            var actual = new int[maze.size()];
+            for (int c = 0; c < actual.length; c++) actual[c] = field.distance(c);
+            assertArrayEquals(expected, actual);
+            assertEquals(Arrays.stream(expected).max().getAsInt(), field.distance(field.farthest()));
+        }
+    }
+
+    @Test
+    void treeDistancesAgreeWithPlainBfs() {
+        var random = new SplittableRandom(9);
+        for (var name : new String[]{"backtracking", "kruskal", "sidewinder", "eller"}) {
+            for (int[] size : new int[][]{{1, 1}, {1, 40}, {40, 1}, {37, 23}}) {
+                var maze = new MazeSpec(name, size[0], size[1], 9, RandomSource.SPLITTABLE).generate();
+                var index = TreeIndex.of(maze);
+                for (int i = 0; i < 40; i++) {
+                    int a = random.nextInt(maze.size()), b = random.nextInt(maze.size());
+                    assertEquals(plainBfs(maze, a)[b], index.distance(a, b), name + " " + a + " -> " + b);
+                }
+            }
+        }
+    }
+
+    @Test
+    void mazesWithLoopsOrGapsAreRejected() {
+        var looped = new MazeSpec("kruskal", 12, 3).generate();
+        int closed = 0;
+        while (closed % 12 == 11 || looped.isOpen(closed, Maze.RIGHT)) closed++;
+        looped.carve(closed, Maze.RIGHT);
+        assertThrows(IllegalArgumentException.class, () -> TreeIndex.build(DistanceField.of(looped, 0)));
+
+        assertThrows(IllegalArgumentException.class, () -> TreeIndex.build(DistanceField.of(new Maze(12), 0)));
+    }
+
+    @Test
+    void maskedMazesAreRootedAtTheirFirstEnabledCell() {
+        var enabled = Bits.create(30 * 24);
+        for (int y = 0; y < 24; y++) {
+            for (int x = 0; x < 30; x++) {
+                int r = (x - 15) * (x - 15) + (y - 12) * (y - 12);
+                if (r <= 11 * 11 && r > 3 * 3) Bits.set(enabled, y * 30 + x); // a ring, so cell 0 is disabled
+            }
+        }
+        var grid = new MaskedGrid(new Maze(30, 24), enabled);
+        Generators.byName("wilson").generate(grid, new SplittableRandom(2), null);
+
+        var index = TreeIndex.of(grid);
+        assertEquals(grid.first(), index.field().root());
+        var random = new SplittableRandom(3);
+        for (int i = 0; i < 100; i++) {
+            int a = random.nextInt(grid.size()), b = random.nextInt(grid.size());
+            if (grid.contains(a) && grid.contains(b)) assertEquals(plainBfs(grid.maze(), a)[b], index.distance(a, b));
+        }
+    }
+
+    @Test
+    void otherTopologiesAndHugeTreesAreRejected() {
+        var maze = new MazeSpec("kruskal", 16, 1).generate();
+        assertThrows(IllegalArgumentException.class, () -> TreeIndex.of(new Grid(maze).region(0, 0, 8, 8)));
+        assertThrows(IllegalArgumentException.class, () -> TreeIndex.of(new HexGrid(16, 16)));
+        assertThrows(IllegalArgumentException.class,
+                () -> TreeIndex.build(DistanceField.of(maze, 0), TreeIndex.MAX_CELLS + 1));
+    }
+}
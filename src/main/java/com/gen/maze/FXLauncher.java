@@ -1,9 +0,0 @@
-package com.gen.maze;
-
-import com.gen.maze.exec.Main;
-
-public class FXLauncher {
-    public static void main(String[] args) {
-        Main.main(args);
-    }
-}
@@ -1,8 +0,0 @@
-package com.gen.maze.data.misc;
-
-public enum Where {
-    UP,
-    DOWN,
-    LEFT,
-    RIGHT
-}